@@ -0,0 +1,134 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+// the cache key, which invalidates all the cached records of an entity (e.g., after a write of the records matching
+// a filter). The cache keys of the entity keys are always tuples, hence do not clash with it
+const ALL_CACHE_KEYS = "*";
+
+# A bounded cache of read-only values keyed by the entity key, which is used by the persist clients
+# to serve repeated `get` operations without a data store round trip.
+isolated class EntityCache {
+
+    private final handle cache;
+
+    isolated function init(CacheConfig config) {
+        self.cache = newEntityCache(config.capacity, config.maxAge);
+    }
+
+    # Retrieves the cached value for the given key and projection.
+    #
+    # + key - The cache key of the entity
+    # + projection - The projection (set of fields) the value was retrieved with
+    # + return - The cached read-only value or `()` if it is not cached
+    isolated function get(string key, string projection) returns anydata {
+        return getCacheEntry(self.cache, key, projection);
+    }
+
+    # Returns a ticket, which should be passed to `put` once the value is loaded from the data store.
+    # A value loaded while the cache was being invalidated is discarded by `put`.
+    #
+    # + return - The load ticket
+    isolated function startLoad() returns int {
+        return startCacheLoad(self.cache);
+    }
+
+    isolated function put(string key, string projection, anydata & readonly value, int ticket) {
+        putCacheEntry(self.cache, key, projection, value, ticket);
+    }
+
+    isolated function invalidate(string key) {
+        invalidateCacheEntry(self.cache, key);
+    }
+
+    isolated function invalidateAll() {
+        invalidateAllCacheEntries(self.cache);
+    }
+
+    isolated function getStats() returns CacheStats {
+        return getCacheStats(self.cache);
+    }
+}
+
+isolated function getProjectionKey(string[] fields, string[] include = []) returns string {
+    return string:'join(",", ...fields) + "|" + string:'join(",", ...include);
+}
+
+isolated function invalidateCaches(string[] cacheKeys, EntityCache? entityCache, EntityCache? negativeCache, EntityCache? queryCache) {
+    if cacheKeys.indexOf(ALL_CACHE_KEYS) is int {
+        if entityCache is EntityCache {
+            entityCache.invalidateAll();
+        }
+        if negativeCache is EntityCache {
+            negativeCache.invalidateAll();
+        }
+        if queryCache is EntityCache {
+            queryCache.invalidateAll();
+        }
+        return;
+    }
+
+    if entityCache is EntityCache {
+        foreach string cacheKey in cacheKeys {
+            entityCache.invalidate(cacheKey);
+        }
+    }
+
+    if negativeCache is EntityCache {
+        foreach string cacheKey in cacheKeys {
+            negativeCache.invalidate(cacheKey);
+        }
+    }
+
+    if queryCache is EntityCache {
+        queryCache.invalidateAll();
+    }
+}
+
+isolated function newEntityCache(int capacity, decimal maxAge) returns handle = @java:Constructor {
+    'class: "io.ballerina.stdlib.persist.cache.EntityCache"
+} external;
+
+isolated function getCacheEntry(handle cache, string key, string projection) returns anydata = @java:Method {
+    'class: "io.ballerina.stdlib.persist.cache.EntityCache",
+    name: "get"
+} external;
+
+isolated function startCacheLoad(handle cache) returns int = @java:Method {
+    'class: "io.ballerina.stdlib.persist.cache.EntityCache",
+    name: "startLoad"
+} external;
+
+isolated function putCacheEntry(handle cache, string key, string projection, anydata & readonly value, int ticket) = @java:Method {
+    'class: "io.ballerina.stdlib.persist.cache.EntityCache",
+    name: "put"
+} external;
+
+isolated function invalidateCacheEntry(handle cache, string key) = @java:Method {
+    'class: "io.ballerina.stdlib.persist.cache.EntityCache",
+    name: "invalidate"
+} external;
+
+isolated function invalidateAllCacheEntries(handle cache) = @java:Method {
+    'class: "io.ballerina.stdlib.persist.cache.EntityCache",
+    name: "invalidateAll"
+} external;
+
+isolated function getCacheStats(handle cache) returns CacheStats = @java:Method {
+    'class: "io.ballerina.stdlib.persist.cache.EntityCache",
+    name: "getStats"
+} external;
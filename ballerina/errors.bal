@@ -25,3 +25,7 @@ public type NotFoundError distinct Error;
 
 # Represents an error that occurs when the user attempts to create a record which already exists in the database.
 public type AlreadyExistsError distinct Error;
+
+# Represents an error that occurs when a record is updated based on a version of the record, which is no longer the
+# latest version, as the record was updated concurrently.
+public type VersionConflictError distinct Error;
@@ -16,16 +16,22 @@
 
 public isolated client class InMemoryClient {
 
+    private final string & readonly entityName;
     private final string[] & readonly keyFields;
     private final (isolated function (string[]) returns stream<record {}, Error?>) & readonly query;
     private final (isolated function (anydata) returns record {}|NotFoundError) & readonly queryOne;
     private final (map<(isolated function (record {}, string[]) returns record {}[]) & readonly> & readonly) associationsMethods;
+    private final ((isolated function (FilterPredicate, record {}) returns int|Error) & readonly)? updateWhere;
+    private final ((isolated function (FilterPredicate) returns int|Error) & readonly)? deleteWhere;
 
     public isolated function init(TableMetadata & readonly metadata) returns Error? {
+        self.entityName = metadata?.entityName ?: "";
         self.keyFields = metadata.keyFields;
         self.query = metadata.query;
         self.queryOne = metadata.queryOne;
         self.associationsMethods = metadata.associationsMethods;
+        self.updateWhere = metadata?.updateWhere;
+        self.deleteWhere = metadata?.deleteWhere;
     }
 
     public isolated function runReadQuery(string[] fields = []) returns stream<record {}, Error?> {
@@ -46,6 +52,71 @@ public isolated client class InMemoryClient {
         }
     }
 
+    public isolated function runReadByKeysQuery(typedesc<record {}> rowType, anydata[] keys, string[] fields = [], string[] include = [], typedesc<record {}>[] typeDescriptions = []) returns (record {}?)[]|Error {
+        // each key is a single lookup in the table, which is indexed by the key
+        (record {}?)[] result = [];
+        foreach anydata key in keys {
+            record {}|Error 'object = self.runReadByKeyQuery(rowType, key, fields, include, typeDescriptions);
+            if 'object is NotFoundError {
+                result.push(());
+            } else {
+                result.push(check 'object);
+            }
+        }
+        return result;
+    }
+
+    public isolated function runUpdateWhereQuery(WriteFilter filter, record {} updateRecord) returns int|Error {
+        (isolated function (FilterPredicate, record {}) returns int|Error)? updateWhere = self.updateWhere;
+        if updateWhere is () {
+            return <Error>error(string `Updates by filter are not supported by the '${self.entityName}' table.`);
+        }
+        foreach string keyField in self.keyFields {
+            if updateRecord.hasKey(keyField) {
+                return <Error>error(string `The key field '${keyField}' of the '${self.entityName}' entity cannot be updated.`);
+            }
+        }
+        FilterPredicate predicate = check self.getFilterPredicate(filter);
+
+        int startTime = startTimer();
+        int|Error updated = updateWhere(predicate, updateRecord);
+        recordOperation(self.entityName, UPDATE_OPERATION, startTime, updated is int ? updated : 0, updated is Error);
+        return updated;
+    }
+
+    public isolated function runDeleteWhereQuery(WriteFilter filter) returns int|Error {
+        (isolated function (FilterPredicate) returns int|Error)? deleteWhere = self.deleteWhere;
+        if deleteWhere is () {
+            return <Error>error(string `Deletes by filter are not supported by the '${self.entityName}' table.`);
+        }
+        FilterPredicate predicate = check self.getFilterPredicate(filter);
+
+        int startTime = startTimer();
+        int|Error deleted = deleteWhere(predicate);
+        recordOperation(self.entityName, DELETE_OPERATION, startTime, deleted is int ? deleted : 0, deleted is Error);
+        return deleted;
+    }
+
+    private isolated function getFilterPredicate(WriteFilter filter) returns FilterPredicate|Error {
+        if filter is FilterPredicate {
+            return filter;
+        }
+        if !(filter is map<anydata>) {
+            return <Error>error(string `SQL conditions are not supported by the in-memory client of the '${self.entityName}' entity.`);
+        }
+
+        // an empty filter matches all the records
+        final map<anydata> & readonly values = filter.cloneReadOnly();
+        return isolated function(record {} 'object) returns boolean {
+            foreach [string, anydata] [k, v] in values.entries() {
+                if 'object[k] != v {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
     public isolated function getManyRelations(record {} 'object, string[] fields, string[] include, typedesc<record {}>[] typeDescriptions) returns Error? {
         foreach int i in 0 ..< include.length() {
             string entity = include[i];
@@ -58,7 +129,9 @@ public isolated client class InMemoryClient {
             }
 
             isolated function (record {}, string[]) returns record {}[] associationsMethod = self.associationsMethods.get(entity);
+            int startTime = startTimer();
             record {}[] relations = associationsMethod('object, relationFields);
+            recordOperation(self.entityName, RELATION_FETCH_OPERATION, startTime, relations.length());
             'object[entity] = relations;
         }
     }
@@ -86,6 +159,10 @@ public isolated client class InMemoryClient {
         return self.keyFields;
     }
 
+    public isolated function getEntityName() returns string {
+        return self.entityName;
+    }
+
     public isolated function addKeyFields(string[] fields) returns string[] {
         string[] updatedFields = fields.clone();
 
@@ -0,0 +1,210 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# A concurrent in-memory table, which can be used by the generated in-memory clients in place of an `isolated table`
+# guarded by a single lock. The records are held in a native concurrent hash map keyed by the entity key, hence the
+# writes to different keys proceed in parallel, while the writes of a key are atomic.
+# The records are stored as read-only values, hence they are shared with the readers without copying.
+public isolated class InMemoryTable {
+
+    private final handle 'table;
+    private final string entityName;
+    private final typedesc<record {}> rowType;
+    private final string[] & readonly keyFields;
+    private final string? versionField;
+
+    # Initializes the `InMemoryTable`.
+    #
+    # + entityName - The name of the entity of the records
+    # + rowType - The type of the records of the table
+    # + keyFields - The key fields of the records
+    # + versionField - The `int` field, which holds the version of a record. The version is incremented by each update
+    public isolated function init(string entityName, typedesc<record {}> rowType, string[] & readonly keyFields, string? versionField = ()) {
+        self.'table = newInMemoryTable();
+        self.entityName = entityName;
+        self.rowType = rowType;
+        self.keyFields = keyFields;
+        self.versionField = versionField;
+    }
+
+    # Retrieves the record of a key.
+    #
+    # + key - The key of the record. A composite key is given as a map of the key fields
+    # + return - The read-only record or `()` if a record of the key does not exist
+    public isolated function get(anydata key) returns (record {} & readonly)? {
+        return <(record {} & readonly)?>getInMemoryTableRecord(self.'table, self.getTableKey(key));
+    }
+
+    # Retrieves all the records of the table. The records are not ordered.
+    #
+    # + return - The read-only records
+    public isolated function getAll() returns (record {} & readonly)[] {
+        return from anydata value in getInMemoryTableRecords(self.'table)
+            select <record {} & readonly>value;
+    }
+
+    # Inserts a record, unless a record of the same key exists.
+    #
+    # + value - The record to be inserted
+    # + return - An `AlreadyExistsError` if a record of the key exists
+    # or a `persist:Error` if the record is not of the type of the table
+    public isolated function insert(record {} value) returns Error? {
+        record {} & readonly tableRecord = check self.toTableRecord(value);
+        string key = self.getRecordKey(tableRecord);
+        if !insertInMemoryTableRecord(self.'table, key, tableRecord) {
+            return self.getAlreadyExistsError(getKey(tableRecord, self.keyFields));
+        }
+    }
+
+    # Inserts a record or replaces the record of the same key.
+    #
+    # + value - The record to be inserted or replaced
+    # + return - A `persist:Error` if the record is not of the type of the table
+    public isolated function put(record {} value) returns Error? {
+        record {} & readonly tableRecord = check self.toTableRecord(value);
+        putInMemoryTableRecord(self.'table, self.getRecordKey(tableRecord), tableRecord);
+    }
+
+    # Updates the fields of the record of a key atomically. The updates of different keys do not block each other.
+    # If the table has a version field, the version of the record is incremented, and an update holding the version
+    # field is performed only if the record is still of that version.
+    #
+    # + key - The key of the record. A composite key is given as a map of the key fields
+    # + value - The values of the fields to be updated. The key fields cannot be updated
+    # + return - The updated read-only record, a `NotFoundError` if a record of the key does not exist,
+    # a `VersionConflictError` if the record is no longer of the given version,
+    # or a `persist:Error` if the values hold a key field or the updated record is not of the type of the table
+    public isolated function update(anydata key, record {} value) returns (record {} & readonly)|Error {
+        // the record is stored under the key, hence the key fields of the record should remain those of the key
+        foreach string keyField in self.keyFields {
+            if value.hasKey(keyField) {
+                return <Error>error(string `The key field '${keyField}' of the '${self.entityName}' entity cannot be updated.`);
+            }
+        }
+        string tableKey = self.getTableKey(key);
+        while true {
+            anydata current = getInMemoryTableRecord(self.'table, tableKey);
+            if current !is record {} & readonly {
+                return self.getNotFoundError(key);
+            }
+
+            record {} updatedValue = {...current, ...value};
+            string? versionField = self.versionField;
+            if versionField is string {
+                // an update holding the version is performed only if the record is still of that version
+                if value.hasKey(versionField) && value[versionField] != current[versionField] {
+                    return <VersionConflictError>error(string `The '${self.entityName}' entity with the key '${key.toString()}' is no longer of version '${value[versionField].toString()}'.`);
+                }
+                updatedValue[versionField] = <int>current[versionField] + 1;
+            }
+
+            record {} & readonly updated = check self.toTableRecord(updatedValue);
+            // a concurrent update of the key replaced the record, hence the update is retried on the latest record
+            if replaceInMemoryTableRecord(self.'table, tableKey, current, updated) {
+                return updated;
+            }
+        }
+    }
+
+    # Removes the record of a key.
+    #
+    # + key - The key of the record. A composite key is given as a map of the key fields
+    # + return - The removed read-only record or `()` if a record of the key does not exist
+    public isolated function remove(anydata key) returns (record {} & readonly)? {
+        return <(record {} & readonly)?>removeInMemoryTableRecord(self.'table, self.getTableKey(key));
+    }
+
+    # Returns the number of records in the table.
+    #
+    # + return - The number of records
+    public isolated function length() returns int {
+        return getInMemoryTableSize(self.'table);
+    }
+
+    private isolated function getAlreadyExistsError(anydata key) returns AlreadyExistsError {
+        return <AlreadyExistsError>error(string `A record with the key '${key.toString()}' already exists for the entity '${self.entityName}'.`);
+    }
+
+    private isolated function getNotFoundError(anydata key) returns NotFoundError {
+        return <NotFoundError>error(string `A record with the key '${key.toString()}' does not exist for the entity '${self.entityName}'.`);
+    }
+
+    private isolated function toTableRecord(record {} value) returns (record {} & readonly)|Error {
+        record {}|error tableRecord = value.cloneWithType(self.rowType);
+        if tableRecord is error {
+            return <Error>error(tableRecord.message());
+        }
+        return tableRecord.cloneReadOnly();
+    }
+
+    private isolated function getRecordKey(record {} value) returns string {
+        return (from string keyField in self.keyFields
+            select value[keyField]).toBalString();
+    }
+
+    // the key of a record is the string representation of its key field values, in the order of the key fields
+    private isolated function getTableKey(anydata key) returns string {
+        if key is map<anydata> {
+            return (from string keyField in self.keyFields
+                select key[keyField]).toBalString();
+        }
+        if key is anydata[] && self.keyFields.length() > 1 {
+            return key.toBalString();
+        }
+        return [key].toBalString();
+    }
+}
+
+isolated function newInMemoryTable() returns handle = @java:Constructor {
+    'class: "io.ballerina.stdlib.persist.datastore.InMemoryTable"
+} external;
+
+isolated function getInMemoryTableRecord(handle 'table, string key) returns anydata = @java:Method {
+    'class: "io.ballerina.stdlib.persist.datastore.InMemoryTable",
+    name: "get"
+} external;
+
+isolated function getInMemoryTableRecords(handle 'table) returns anydata[] = @java:Method {
+    'class: "io.ballerina.stdlib.persist.datastore.InMemoryTable",
+    name: "values"
+} external;
+
+isolated function insertInMemoryTableRecord(handle 'table, string key, anydata & readonly value) returns boolean = @java:Method {
+    'class: "io.ballerina.stdlib.persist.datastore.InMemoryTable",
+    name: "insert"
+} external;
+
+isolated function putInMemoryTableRecord(handle 'table, string key, anydata & readonly value) = @java:Method {
+    'class: "io.ballerina.stdlib.persist.datastore.InMemoryTable",
+    name: "put"
+} external;
+
+isolated function replaceInMemoryTableRecord(handle 'table, string key, anydata & readonly expected, anydata & readonly value) returns boolean = @java:Method {
+    'class: "io.ballerina.stdlib.persist.datastore.InMemoryTable",
+    name: "replace"
+} external;
+
+isolated function removeInMemoryTableRecord(handle 'table, string key) returns anydata = @java:Method {
+    'class: "io.ballerina.stdlib.persist.datastore.InMemoryTable",
+    name: "remove"
+} external;
+
+isolated function getInMemoryTableSize(handle 'table) returns int = @java:Method {
+    'class: "io.ballerina.stdlib.persist.datastore.InMemoryTable",
+    name: "size"
+} external;
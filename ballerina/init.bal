@@ -18,6 +18,7 @@ import ballerina/jballerina.java;
 
 isolated function init() {
     setModule();
+    enableMetrics(metricsEnabled);
 }
 
 isolated function setModule() = @java:Method {
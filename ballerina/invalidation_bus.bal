@@ -0,0 +1,303 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/jballerina.java;
+import ballerina/lang.runtime;
+import ballerina/log;
+import ballerina/uuid;
+
+const byte NEW_LINE = 10;
+
+type FileInvalidation record {|
+    string origin;
+    *CacheInvalidation;
+|};
+
+# An `InvalidationBus`, which delivers the invalidations to the listeners within the same process.
+# This can be shared by multiple clients of the same data store within a service.
+public isolated class LocalInvalidationBus {
+    *InvalidationBus;
+
+    private InvalidationListener[] listeners = [];
+
+    # Publishes an invalidation to all the listeners of the bus.
+    #
+    # + invalidation - The invalidation to be published
+    # + return - `()` as the invalidation is delivered in-process
+    public isolated function publish(CacheInvalidation & readonly invalidation) returns Error? {
+        notifyListeners(self.getListeners(), invalidation);
+    }
+
+    # Registers a listener, which is notified of the invalidations published to the bus.
+    #
+    # + invalidationListener - The listener to be registered
+    # + return - `()` as the listener is registered in-process
+    public isolated function subscribe(InvalidationListener invalidationListener) returns Error? {
+        lock {
+            self.listeners.push(invalidationListener);
+        }
+    }
+
+    # Deregisters a listener, which is no longer notified of the invalidations published to the bus.
+    #
+    # + invalidationListener - The listener to be deregistered
+    # + return - `()` as the listener is deregistered in-process
+    public isolated function unsubscribe(InvalidationListener invalidationListener) returns Error? {
+        lock {
+            self.listeners = removeListener(self.listeners, invalidationListener);
+        }
+    }
+
+    isolated function getListeners() returns InvalidationListener[] {
+        lock {
+            return self.listeners.cloneReadOnly();
+        }
+    }
+}
+
+# An `InvalidationBus`, which shares the invalidations through a file appended to by all the instances using it.
+# Each instance polls the file for the invalidations published by the other instances. This is meant for instances
+# sharing a file system, such as when testing locally without a message broker.
+# The file is replaced with a new file by the publish, which finds it larger than the maximum file size. The
+# invalidations of the former file, which the other instances have not read yet, are then lost, hence the size should
+# allow for many poll intervals of invalidations. The cached records are refreshed once they expire in case of a loss.
+public isolated class FileInvalidationBus {
+    *InvalidationBus;
+
+    private final string path;
+    private final decimal pollInterval;
+    private final int maxFileSize;
+    private final string origin = uuid:createType4AsString();
+    private InvalidationListener[] listeners = [];
+    private int readOffset = 0;
+    private string fileKey = "";
+    private boolean polling = false;
+    private boolean closed = false;
+
+    # Initializes the `FileInvalidationBus`.
+    #
+    # + path - The path of the file through which the invalidations are shared. The file is created if it does not exist
+    # + pollInterval - The time (in seconds) between two reads of the file
+    # + maxFileSize - The size (in bytes) of the file, above which the file is replaced by the next publish
+    # + return - A `persist:Error` if the file cannot be accessed
+    public isolated function init(string path, decimal pollInterval = 1, int maxFileSize = 10485760) returns Error? {
+        self.path = path;
+        self.pollInterval = pollInterval;
+        self.maxFileSize = maxFileSize;
+
+        io:Error? created = io:fileWriteString(path, "", io:APPEND);
+        if created is io:Error {
+            return <Error>error(created.message());
+        }
+
+        // only the invalidations published after the bus is created are delivered
+        string|error fileKey = getFileKey(path);
+        if fileKey is error {
+            return <Error>error(fileKey.message());
+        }
+        int|error size = getFileSize(path);
+        if size is error {
+            return <Error>error(size.message());
+        }
+        self.fileKey = fileKey;
+        self.readOffset = size;
+    }
+
+    # Publishes an invalidation to the listeners of this bus and to the other instances using the same file.
+    #
+    # + invalidation - The invalidation to be published
+    # + return - A `persist:Error` if the invalidation cannot be written to the file
+    public isolated function publish(CacheInvalidation & readonly invalidation) returns Error? {
+        notifyListeners(self.getListeners(), invalidation);
+
+        int|error size = getFileSize(self.path);
+        if size is error {
+            return <Error>error(size.message());
+        }
+
+        FileInvalidation fileInvalidation = {origin: self.origin, ...invalidation};
+        if size > self.maxFileSize {
+            // the readers find the file replaced, hence they read the new file from the start
+            error? replaced = replaceFile(self.path, fileInvalidation.toJsonString() + "\n");
+            if replaced is error {
+                return <Error>error(replaced.message());
+            }
+            return;
+        }
+
+        io:Error? result = io:fileWriteLines(self.path, [fileInvalidation.toJsonString()], io:APPEND);
+        if result is io:Error {
+            return <Error>error(result.message());
+        }
+    }
+
+    # Registers a listener, which is notified of the invalidations published to the bus.
+    # The file is polled for invalidations once the first listener is registered.
+    #
+    # + invalidationListener - The listener to be registered
+    # + return - `()` as the listener is registered in-process
+    public isolated function subscribe(InvalidationListener invalidationListener) returns Error? {
+        if self.addListener(invalidationListener) {
+            _ = start self.poll();
+        }
+    }
+
+    # Deregisters a listener, which is no longer notified of the invalidations published to the bus.
+    #
+    # + invalidationListener - The listener to be deregistered
+    # + return - `()` as the listener is deregistered in-process
+    public isolated function unsubscribe(InvalidationListener invalidationListener) returns Error? {
+        lock {
+            self.listeners = removeListener(self.listeners, invalidationListener);
+        }
+    }
+
+    # Stops polling the file for invalidations.
+    public isolated function close() {
+        lock {
+            self.closed = true;
+        }
+    }
+
+    isolated function poll() {
+        while !self.isClosed() {
+            Error? result = self.readInvalidations();
+            if result is Error {
+                log:printError("Failed to read the cache invalidations from " + self.path, 'error = result);
+            }
+            runtime:sleep(self.pollInterval);
+        }
+    }
+
+    isolated function readInvalidations() returns Error? {
+        string|error fileKey = getFileKey(self.path);
+        if fileKey is error {
+            return <Error>error(fileKey.message());
+        }
+        int|error size = getFileSize(self.path);
+        if size is error {
+            return <Error>error(size.message());
+        }
+
+        int readOffset = self.getReadOffset();
+        if fileKey != self.getFileKey() || size < readOffset {
+            // the file has been replaced or truncated
+            readOffset = 0;
+            self.setFileKey(fileKey);
+        }
+        if size == readOffset {
+            return;
+        }
+
+        // only the bytes appended since the last read are read
+        byte[]|error bytes = readFileRange(self.path, readOffset, size - readOffset);
+        if bytes is error {
+            return <Error>error(bytes.message());
+        }
+
+        InvalidationListener[] listeners = self.getListeners();
+        int lineStart = 0;
+        foreach int i in 0 ..< bytes.length() {
+            if bytes[i] != NEW_LINE {
+                continue;
+            }
+            string|error line = string:fromBytes(bytes.slice(lineStart, i));
+            lineStart = i + 1;
+            FileInvalidation|error fileInvalidation = line is string ? line.fromJsonStringWithType() : line;
+            if fileInvalidation is FileInvalidation && fileInvalidation.origin != self.origin {
+                notifyListeners(listeners, {entity: fileInvalidation.entity, keys: fileInvalidation.keys.cloneReadOnly()});
+            }
+        }
+        // the last line is read once it is completely written
+        self.setReadOffset(readOffset + lineStart);
+    }
+
+    isolated function addListener(InvalidationListener invalidationListener) returns boolean {
+        lock {
+            self.listeners.push(invalidationListener);
+            if self.polling {
+                return false;
+            }
+            self.polling = true;
+            return true;
+        }
+    }
+
+    isolated function getListeners() returns InvalidationListener[] {
+        lock {
+            return self.listeners.cloneReadOnly();
+        }
+    }
+
+    isolated function getFileKey() returns string {
+        lock {
+            return self.fileKey;
+        }
+    }
+
+    isolated function setFileKey(string fileKey) {
+        lock {
+            self.fileKey = fileKey;
+        }
+    }
+
+    isolated function getReadOffset() returns int {
+        lock {
+            return self.readOffset;
+        }
+    }
+
+    isolated function setReadOffset(int readOffset) {
+        lock {
+            self.readOffset = readOffset;
+        }
+    }
+
+    isolated function isClosed() returns boolean {
+        lock {
+            return self.closed;
+        }
+    }
+}
+
+isolated function notifyListeners(InvalidationListener[] listeners, CacheInvalidation & readonly invalidation) {
+    foreach InvalidationListener invalidationListener in listeners {
+        invalidationListener(invalidation);
+    }
+}
+
+isolated function removeListener(InvalidationListener[] listeners, InvalidationListener invalidationListener) returns InvalidationListener[] {
+    return from InvalidationListener registeredListener in listeners
+        where registeredListener !== invalidationListener
+        select registeredListener;
+}
+
+isolated function getFileSize(string path) returns int|error = @java:Method {
+    'class: "io.ballerina.stdlib.persist.Utils"
+} external;
+
+isolated function readFileRange(string path, int offset, int length) returns byte[]|error = @java:Method {
+    'class: "io.ballerina.stdlib.persist.Utils"
+} external;
+
+isolated function getFileKey(string path) returns string|error = @java:Method {
+    'class: "io.ballerina.stdlib.persist.Utils"
+} external;
+
+isolated function replaceFile(string path, string content) returns error? = @java:Method {
+    'class: "io.ballerina.stdlib.persist.Utils"
+} external;
@@ -21,19 +21,26 @@
 # + fieldMetadata - Metadata of all the fields of the entity
 # + keyFields - Names of the identity fields
 # + joinMetadata - Metadata of the fields that are used for `JOIN` operations
+# + versionField - Name of the `int` field, which holds the version of a record for optimistic concurrency control.
+# The version is incremented by each update, and an update given a version is performed only if the record is still
+# of that version
 public type SQLMetadata record {|
     string entityName;
     string tableName;
     map<FieldMetadata> fieldMetadata;
     string[] keyFields;
     map<JoinMetadata> joinMetadata?;
+    string versionField?;
 |};
 
 public type TableMetadata record {|
+    string entityName?;
     string[] keyFields;
     isolated function (string[]) returns stream<record {}, Error?> query;
     isolated function (anydata) returns record {}|NotFoundError queryOne;
     map<isolated function (record {}, string[]) returns record {}[]> associationsMethods = {};
+    isolated function (FilterPredicate, record {}) returns int|Error updateWhere?;
+    isolated function (FilterPredicate) returns int|Error deleteWhere?;
 |};
 
 # Represents the metadata associated with a field from a related entity.
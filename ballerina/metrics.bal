@@ -0,0 +1,96 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/log;
+import ballerina/sql;
+
+const READ_ALL_OPERATION = "read_all";
+const READ_BY_KEY_OPERATION = "read_by_key";
+const READ_BY_KEYS_OPERATION = "read_by_keys";
+const RELATION_FETCH_OPERATION = "relation_fetch";
+const INSERT_OPERATION = "insert";
+const UPSERT_OPERATION = "upsert";
+const UPDATE_OPERATION = "update";
+const DELETE_OPERATION = "delete";
+const ASYNC_WRITE_OPERATION = "async_write";
+const CONVERSION_OPERATION = "conversion";
+
+# Enables recording the metrics of the operations performed by the persist clients.
+# The metrics are also recorded and published through the Ballerina observability metrics, when they are enabled.
+configurable boolean metricsEnabled = false;
+
+# Enables or disables recording the metrics of the operations performed by the persist clients.
+#
+# + enabled - Whether the metrics should be recorded
+public isolated function enableMetrics(boolean enabled = true) = @java:Method {
+    'class: "io.ballerina.stdlib.persist.metrics.PersistMetrics",
+    name: "setEnabled"
+} external;
+
+# Retrieves the metrics of the operations performed by the persist clients, per entity and operation.
+#
+# + return - The `persist:OperationMetrics` recorded since the metrics were last reset
+public isolated function getMetrics() returns OperationMetrics[] = @java:Method {
+    'class: "io.ballerina.stdlib.persist.metrics.PersistMetrics"
+} external;
+
+# Discards the metrics recorded so far.
+public isolated function resetMetrics() = @java:Method {
+    'class: "io.ballerina.stdlib.persist.metrics.PersistMetrics",
+    name: "reset"
+} external;
+
+# Retrieves the statistics of the connection pool of an SQL client.
+#
+# + dbClient - The SQL client
+# + return - The `persist:ConnectionPoolStats` or `()` if the client does not use a connection pool or its pool cannot
+# be accessed
+public isolated function getConnectionPoolStats(sql:Client dbClient) returns ConnectionPoolStats? {
+    ConnectionPoolStats|error? stats = getPoolStats(dbClient);
+    if stats is error {
+        logPoolStatsFailure(stats);
+        return ();
+    }
+    return stats;
+}
+
+isolated boolean poolStatsFailureLogged = false;
+
+// the statistics are typically retrieved periodically, hence a failure to access the pool is logged only once
+isolated function logPoolStatsFailure(error failure) {
+    lock {
+        if poolStatsFailureLogged {
+            return;
+        }
+        poolStatsFailureLogged = true;
+    }
+    log:printWarn("The connection pool statistics are not available", 'error = failure);
+}
+
+isolated function getPoolStats(sql:Client dbClient) returns ConnectionPoolStats|error? = @java:Method {
+    'class: "io.ballerina.stdlib.persist.metrics.ConnectionPoolMetrics",
+    name: "getConnectionPoolStats"
+} external;
+
+isolated function startTimer() returns int = @java:Method {
+    'class: "io.ballerina.stdlib.persist.metrics.PersistMetrics"
+} external;
+
+isolated function recordOperation(string entity, string operation, int startTime, int rows = 0, boolean failed = false) = @java:Method {
+    'class: "io.ballerina.stdlib.persist.metrics.PersistMetrics",
+    name: "record"
+} external;
@@ -0,0 +1,83 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/log;
+
+# Configurations of the detector of N+1 query patterns, i.e. operations that retrieve the relations
+# of each retrieved record with a separate query.
+#
+# + enabled - Whether the detector is enabled. It is meant to be enabled in development and test environments
+# + threshold - The number of relation queries per operation, above which a warning is logged
+public type RelationQueryDetectorConfig record {|
+    boolean enabled = false;
+    int threshold = 20;
+|};
+
+# The configurations of the detector of N+1 query patterns.
+configurable RelationQueryDetectorConfig relationQueryDetector = {};
+
+# Counts the relation queries issued by an operation and logs a warning once the count exceeds the threshold.
+#
+# + entity - The name of the entity
+# + operation - The persist operation
+# + include - The relations retrieved by the operation
+# + relationQueries - The number of relation queries issued by the operation so far
+# + newQueries - The number of relation queries issued since the last call
+# + return - The number of relation queries issued by the operation
+isolated function countRelationQueries(string entity, string operation, string[] include, int relationQueries,
+        int newQueries) returns int {
+    int count = relationQueries + newQueries;
+    if relationQueryDetector.enabled && isThresholdCrossed(relationQueries, count, relationQueryDetector.threshold) {
+        log:printWarn(string `Possible N+1 query pattern: '${operation}' of '${entity}' issued more than ${relationQueryDetector.threshold} relation queries. Consider retrieving the relations separately.`,
+            entity = entity, operation = operation, include = include, threshold = relationQueryDetector.threshold);
+    }
+    return count;
+}
+
+# Counts the relation queries issued by a single operation, as they are issued.
+isolated class RelationQueryCounter {
+
+    private final string entity;
+    private final string operation;
+    private final string[] & readonly include;
+    private int relationQueries = 0;
+
+    isolated function init(string entity, string operation, string[] include) {
+        self.entity = entity;
+        self.operation = operation;
+        self.include = include.cloneReadOnly();
+    }
+
+    # Counts a relation query issued by the operation.
+    isolated function count() {
+        lock {
+            self.relationQueries = countRelationQueries(self.entity, self.operation, self.include, self.relationQueries, 1);
+        }
+    }
+
+    # Returns the number of relation queries issued by the operation.
+    #
+    # + return - The number of relation queries
+    isolated function getCount() returns int {
+        lock {
+            return self.relationQueries;
+        }
+    }
+}
+
+isolated function isThresholdCrossed(int previous, int current, int threshold) returns boolean {
+    return previous <= threshold && current > threshold;
+}
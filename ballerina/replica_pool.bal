@@ -0,0 +1,164 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/sql;
+import ballerina/time;
+
+const NO_REPLICA = -1;
+// the number of written keys, above which the keys written before the replica lag are discarded
+const MAX_WRITTEN_KEYS = 1000;
+
+# The read replicas of a database, from which a replica is selected for each read operation.
+# The pool also keeps the keys written within the replica lag, as the replicas may not have applied their writes yet.
+isolated class ReplicaPool {
+
+    private final sql:Client[] replicas = [];
+    private final int[] readsInProgress = [];
+    private final ReplicaSelection selection;
+    private final decimal replicaLag;
+    private final map<decimal> writtenKeys = {};
+    private decimal lastWrite = -1;
+    private decimal lastWriteOfAllKeys = -1;
+    private int next = 0;
+
+    isolated function init(sql:Client[] replicas, ReplicaSelection selection, decimal replicaLag) {
+        self.selection = selection;
+        self.replicaLag = replicaLag;
+        foreach sql:Client replica in replicas {
+            lock {
+                self.replicas.push(replica);
+                self.readsInProgress.push(0);
+            }
+        }
+    }
+
+    # Selects a replica for a read operation. The replica should be released once the read is completed.
+    #
+    # + return - The index of the replica, which should be passed to `release`, and the replica
+    isolated function acquire() returns [int, sql:Client] {
+        lock {
+            int index;
+            int replicaCount = self.replicas.length();
+            index = self.next;
+            if self.selection == LEAST_LOADED {
+                // the scan starts from the next replica in turn, so that the replicas of equal load share the reads
+                foreach int i in 1 ..< replicaCount {
+                    int candidate = (self.next + i) % replicaCount;
+                    if self.readsInProgress[candidate] < self.readsInProgress[index] {
+                        index = candidate;
+                    }
+                }
+            }
+            self.next = (self.next + 1) % replicaCount;
+
+            self.readsInProgress[index] += 1;
+            return [index, self.replicas[index]];
+        }
+    }
+
+    isolated function release(int index) {
+        if index == NO_REPLICA {
+            return;
+        }
+
+        lock {
+            self.readsInProgress[index] -= 1;
+        }
+    }
+
+    # Records the keys written to the primary.
+    #
+    # + cacheKeys - The cache keys of the written records, or `ALL_CACHE_KEYS` if the records are written by a filter
+    isolated function recordWrites(string[] & readonly cacheKeys) {
+        decimal now = time:monotonicNow();
+        lock {
+            self.lastWrite = now;
+            foreach string cacheKey in cacheKeys {
+                if cacheKey == ALL_CACHE_KEYS {
+                    self.lastWriteOfAllKeys = now;
+                } else {
+                    self.writtenKeys[cacheKey] = now;
+                }
+            }
+
+            if self.writtenKeys.length() > MAX_WRITTEN_KEYS {
+                foreach [string, decimal] [cacheKey, writeTime] in self.writtenKeys.entries() {
+                    if now - writeTime > self.replicaLag {
+                        _ = self.writtenKeys.remove(cacheKey);
+                    }
+                }
+            }
+        }
+    }
+
+    # Checks whether a key has been written within the replica lag.
+    #
+    # + cacheKey - The cache key of the record
+    # + return - `true` if the replicas may not have applied the write of the key yet
+    isolated function isRecentlyWritten(string cacheKey) returns boolean {
+        decimal now = time:monotonicNow();
+        lock {
+            decimal writeTime = decimal:max(self.writtenKeys[cacheKey] ?: -1, self.lastWriteOfAllKeys);
+            return writeTime >= 0d && now - writeTime <= self.replicaLag;
+        }
+    }
+
+    # Checks whether any key has been written within the replica lag.
+    #
+    # + return - `true` if the replicas may not have applied a write yet
+    isolated function hasRecentWrites() returns boolean {
+        decimal now = time:monotonicNow();
+        lock {
+            return self.lastWrite >= 0d && now - self.lastWrite <= self.replicaLag;
+        }
+    }
+}
+
+# Iterates the rows of a stream read from a replica, and releases the replica once the stream is exhausted or closed,
+# so that the reads in progress account for the streams being consumed.
+class ReplicaResultIterator {
+
+    private final stream<record {}, sql:Error?> resultStream;
+    private final ReplicaPool replicaPool;
+    private final int replica;
+    private boolean released = false;
+
+    isolated function init(stream<record {}, sql:Error?> resultStream, ReplicaPool replicaPool, int replica) {
+        self.resultStream = resultStream;
+        self.replicaPool = replicaPool;
+        self.replica = replica;
+    }
+
+    public isolated function next() returns record {|record {} value;|}|sql:Error? {
+        record {|record {} value;|}|sql:Error? row = self.resultStream.next();
+        if !(row is record {|record {} value;|}) {
+            self.release();
+        }
+        return row;
+    }
+
+    public isolated function close() returns sql:Error? {
+        self.release();
+        return self.resultStream.close();
+    }
+
+    private isolated function release() {
+        if !self.released {
+            self.released = true;
+            self.replicaPool.release(self.replica);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/log;
+import ballerina/sql;
+import ballerina/time;
+
+# Configurations of the log of slow SQL operations.
+#
+# + threshold - The duration in seconds, above which an operation is logged. The log is disabled if the threshold is negative
+# + sampleRate - The fraction of the slow operations, which are logged
+public type SlowOperationLogConfig record {|
+    decimal threshold = -1;
+    float sampleRate = 1.0;
+|};
+
+# The configurations of the log of slow SQL operations.
+configurable SlowOperationLogConfig slowOperationLog = {};
+
+isolated int slowOperations = 0;
+
+# Starts timing an operation, if the slow operation log is enabled.
+#
+# + return - The start time of the operation or `()` if the operation is not timed
+isolated function startSlowOperationTimer() returns decimal? {
+    if slowOperationLog.threshold < 0d || slowOperationLog.sampleRate <= 0.0 {
+        return;
+    }
+    return time:monotonicNow();
+}
+
+# Returns the duration of a timed operation, if it exceeds the slow operation threshold and is sampled for the log.
+#
+# + startTime - The start time returned by `startSlowOperationTimer`
+# + return - The duration of the operation in seconds or `()` if the operation is not slow or not sampled
+isolated function getSlowOperationDuration(decimal? startTime) returns decimal? {
+    if startTime is () {
+        return;
+    }
+
+    decimal duration = time:monotonicNow() - startTime;
+    if duration < slowOperationLog.threshold || !isSlowOperationSampled() {
+        return;
+    }
+    return duration;
+}
+
+// only the slow operations are sampled, hence the operations within the threshold do not contend for the counter
+isolated function isSlowOperationSampled() returns boolean {
+    float sampleRate = slowOperationLog.sampleRate;
+    if sampleRate >= 1.0 {
+        return true;
+    }
+
+    lock {
+        // the slow operations are sampled uniformly, e.g. every fourth operation for a sample rate of 0.25
+        float previous = (<float>slowOperations * sampleRate).floor();
+        slowOperations += 1;
+        return (<float>slowOperations * sampleRate).floor() != previous;
+    }
+}
+
+isolated function logSlowOperation(string entity, string operation, decimal duration, sql:ParameterizedQuery query,
+        string[] include = [], int rows = 0, int relationQueries = 0) {
+    log:printWarn(string `Slow persist operation on '${entity}'`, entity = entity, operation = operation,
+        query = getQueryTemplate(query), include = include, duration = duration, rows = rows,
+        relationQueries = relationQueries);
+}
+
+# Returns the SQL statement of a query with placeholders in place of the bound values.
+#
+# + query - The parameterized query
+# + return - The SQL statement template
+isolated function getQueryTemplate(sql:ParameterizedQuery query) returns string {
+    return string:'join("?", ...query.strings);
+}
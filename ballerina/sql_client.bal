@@ -15,6 +15,26 @@
 // under the License.
 
 import ballerina/sql;
+import ballerina/log;
+import ballerina/jballerina.java;
+import ballerina/lang.'transaction as transactions;
+import ballerina/uuid;
+
+const RESULT_SET = "resultSet";
+const BATCH_READ_CHUNK_SIZE = 500;
+const ABSENT_KEY = "absentKey";
+// the affected row count reported by the driver for a statement of a batch, which failed
+const EXECUTE_FAILED = -3;
+const REF_COLUMN_ALIAS = "persistRefColumn";
+// the alias of the row inserted by an upsert, by which the update of an existing record refers to the inserted values
+const UPSERT_ROW_ALIAS = "persistUpsertRow";
+
+// a write queued to be written asynchronously
+type AsyncWrite record {|
+    string operation;
+    anydata key;
+    record {} value;
+|};
 
 # The client used by the generated persist clients to abstract and 
 # execute SQL queries that are required to perform CRUD operations.
@@ -26,24 +46,102 @@ public isolated client class SQLClient {
     private final string & readonly tableName;
     private final map<FieldMetadata> & readonly fieldMetadata;
     private final string[] & readonly keyFields;
+    private final string? versionField;
     private final map<JoinMetadata> & readonly joinMetadata;
+    private final EntityCache? entityCache;
+    private final EntityCache? queryCache;
+    private final int queryCacheMaxRows;
+    private final EntityCache? negativeCache;
+    private final InvalidationBus? invalidationBus;
+    private final InvalidationListener? invalidationListener;
+    private final string clientId = uuid:createType4AsString();
+    private final ReplicaPool? replicaPool;
+    private final handle? writeCoalescer;
+    private final handle? writeQueue;
+    private final map<string[]> transactionWriteSets = {};
 
     # Initializes the `SQLClient`.
     #
     # + dbClient - The `sql:Client`, which is used to execute SQL queries
     # + metadata - Metadata of the entity
+    # + options - The optional configurations of the client
     # + return - A `persist:Error` if the client creation fails
-    public isolated function init(sql:Client dbClient, SQLMetadata & readonly metadata) returns Error? {
+    public isolated function init(sql:Client dbClient, SQLMetadata & readonly metadata, SQLClientOptions options = {}) returns Error? {
         self.entityName = metadata.entityName;
         self.tableName = metadata.tableName;
         self.fieldMetadata = metadata.fieldMetadata;
         self.keyFields = metadata.keyFields;
+        self.versionField = metadata?.versionField;
         self.dbClient = dbClient;
         if metadata.joinMetadata is map<JoinMetadata> {
             self.joinMetadata = <map<JoinMetadata> & readonly>metadata.joinMetadata;
         } else {
             self.joinMetadata = {};
         }
+
+        CacheConfig? cacheConfig = options.cache;
+        QueryCacheConfig? queryCacheConfig = options.queryCache;
+        CacheConfig? negativeCacheConfig = options.negativeCache;
+        foreach decimal? maxAge in [cacheConfig?.maxAge, queryCacheConfig?.maxAge, negativeCacheConfig?.maxAge] {
+            if maxAge is decimal && maxAge <= 0d && maxAge != -1d {
+                return <Error>error("The maximum age of a cache should be positive, or -1 to never expire.");
+            }
+        }
+        final EntityCache? entityCache = cacheConfig is CacheConfig ? new EntityCache(cacheConfig) : ();
+        self.entityCache = entityCache;
+
+        final EntityCache? queryCache = queryCacheConfig is QueryCacheConfig
+            ? new EntityCache({capacity: queryCacheConfig.capacity, maxAge: queryCacheConfig.maxAge}) : ();
+        self.queryCache = queryCache;
+        self.queryCacheMaxRows = queryCacheConfig is QueryCacheConfig ? queryCacheConfig.maxRows : 0;
+
+        final EntityCache? negativeCache = negativeCacheConfig is CacheConfig ? new EntityCache(negativeCacheConfig) : ();
+        self.negativeCache = negativeCache;
+
+        if options.replicaLag < 0d {
+            return <Error>error("The replica lag should not be negative.");
+        }
+        final ReplicaPool? replicaPool = options.replicas.length() > 0
+            ? new ReplicaPool(options.replicas, options.replicaSelection, options.replicaLag) : ();
+        self.replicaPool = replicaPool;
+
+        WriteCoalescingConfig? writeCoalescing = options.writeCoalescing;
+        self.writeCoalescer = writeCoalescing is WriteCoalescingConfig
+            ? newWriteCoalescer(writeCoalescing.maxRows, writeCoalescing.maxDelay) : ();
+
+        AsyncWriteConfig? asyncWrites = options.asyncWrites;
+        if asyncWrites is AsyncWriteConfig && (asyncWrites.capacity < 1 || asyncWrites.workers < 1 || asyncWrites.batchSize < 1) {
+            return <Error>error("The capacity, workers, and batch size of the asynchronous writes should be positive.");
+        }
+        final handle? writeQueue = asyncWrites is AsyncWriteConfig ? newWriteQueue(asyncWrites.capacity) : ();
+        self.writeQueue = writeQueue;
+
+        InvalidationBus? invalidationBus = options.invalidationBus;
+        self.invalidationBus = invalidationBus;
+        InvalidationListener? invalidationListener = ();
+        if invalidationBus is InvalidationBus && (entityCache is EntityCache || queryCache is EntityCache || negativeCache is EntityCache) {
+            final string entityName = metadata.entityName;
+            final string clientId = self.clientId;
+            InvalidationListener cacheInvalidationListener = isolated function(CacheInvalidation & readonly invalidation) {
+                // the caches of the client are invalidated by its writes before the invalidation is published
+                if invalidation.entity == entityName && invalidation?.publisher != clientId {
+                    // the writes of the other instances are subject to the replica lag as well
+                    if replicaPool is ReplicaPool {
+                        replicaPool.recordWrites(invalidation.keys);
+                    }
+                    invalidateCaches(invalidation.keys, entityCache, negativeCache, queryCache);
+                }
+            };
+            check invalidationBus.subscribe(cacheInvalidationListener);
+            invalidationListener = cacheInvalidationListener;
+        }
+        self.invalidationListener = invalidationListener;
+
+        if asyncWrites is AsyncWriteConfig && writeQueue is handle {
+            foreach int i in 0 ..< asyncWrites.workers {
+                _ = start self.drainAsyncWrites(writeQueue, asyncWrites.batchSize);
+            }
+        }
     }
 
     # Performs a batch SQL `INSERT` operation to insert entity instances into a table.
@@ -52,9 +150,15 @@ public isolated client class SQLClient {
     # + return - An `sql:ExecutionResult[]` containing the metadata of the query execution
     # or a `persist:Error` if the operation fails
     public isolated function runBatchInsertQuery(record {}[] insertRecords) returns sql:ExecutionResult[]|Error {
-        sql:ParameterizedQuery[] insertQueries = self.getInsertQueries(insertRecords);
-        sql:ExecutionResult[]|sql:Error result = self.dbClient->batchExecute(insertQueries);
+        handle? writeCoalescer = self.writeCoalescer;
+        if writeCoalescer is handle && insertRecords.length() == 1 && !transactional {
+            // the batch is executed outside the transaction of the caller, hence only the non-transactional
+            // inserts are coalesced
+            sql:ExecutionResult|Error coalescedResult = coalesceInsert(writeCoalescer, self, insertRecords[0]);
+            return coalescedResult is Error ? coalescedResult : [coalescedResult];
+        }
 
+        sql:ExecutionResult[]|sql:Error result = self.runBatchWriteQueries(INSERT_OPERATION, self.getInsertQueries(insertRecords), insertRecords);
         if result is sql:Error {
             if result.message().indexOf("Duplicate entry ") != () {
                 string duplicateKey = check getKeyFromAlreadyExistsErrorMessage(result.message());
@@ -67,6 +171,64 @@ public isolated client class SQLClient {
         return result;
     }
 
+    # Performs a batch SQL `INSERT` operation to insert entity instances into a table, and reports the outcome of
+    # each record individually. This is used to execute the inserts gathered by the write coalescing.
+    #
+    # + insertRecords - The entity records to be inserted into the table
+    # + return - The metadata of the insert of each record or the error of the insert, in the order of the records
+    public isolated function runBatchInsertQueryWithResults(record {}[] insertRecords) returns (sql:ExecutionResult|Error)[] {
+        sql:ExecutionResult[]|sql:Error result = self.runBatchWriteQueries(INSERT_OPERATION, self.getInsertQueries(insertRecords), insertRecords);
+        if result is sql:ExecutionResult[] {
+            return result;
+        }
+        if !(result is sql:BatchExecuteError) {
+            return from record {} insertRecord in insertRecords
+                select self.getInsertError(result, insertRecord);
+        }
+
+        // a failed statement either has a failed result, or is the last statement executed if the driver stops the
+        // batch on a failure. The statements after such a statement are executed again
+        sql:ExecutionResult[] executionResults = result.detail().executionResults;
+        (sql:ExecutionResult|Error)[] results = [];
+        foreach int i in 0 ..< int:min(executionResults.length(), insertRecords.length()) {
+            sql:ExecutionResult executionResult = executionResults[i];
+            results.push(executionResult.affectedRowCount == EXECUTE_FAILED ? self.getInsertError(result, insertRecords[i]) : executionResult);
+        }
+        if results.length() < insertRecords.length() {
+            results.push(self.getInsertError(result, insertRecords[results.length()]));
+            results.push(...self.runBatchInsertQueryWithResults(insertRecords.slice(results.length())));
+        }
+        return results;
+    }
+
+    # Performs a batch SQL `INSERT ... ON DUPLICATE KEY UPDATE` operation to insert entity instances into a table,
+    # or to update the existing records of the same keys.
+    # The version of an existing record of a versioned entity is incremented rather than checked, hence the upsert
+    # overwrites the concurrent updates of the record, while the subsequent versioned updates based on the former
+    # version are rejected.
+    #
+    # + upsertRecords - The entity records to be inserted or updated
+    # + return - An `sql:ExecutionResult[]` containing the metadata of the query execution
+    # or a `persist:Error` if the operation fails
+    public isolated function runBatchUpsertQuery(record {}[] upsertRecords) returns sql:ExecutionResult[]|Error {
+        sql:ExecutionResult[]|sql:Error result = self.runBatchWriteQueries(UPSERT_OPERATION, self.getUpsertQueries(upsertRecords), upsertRecords);
+        if result is sql:Error {
+            return getWriteError(result);
+        }
+        return result;
+    }
+
+    # Performs an SQL `INSERT ... ON DUPLICATE KEY UPDATE` operation to insert an entity instance into a table,
+    # or to update the existing record of the same key.
+    #
+    # + upsertRecord - The entity record to be inserted or updated
+    # + return - `()` if the operation is performed successfully.
+    # A `ConstraintViolationError` if the operation violates a foreign key constraint.
+    # A `persist:Error` if the operation fails due to another reason.
+    public isolated function runUpsertQuery(record {} upsertRecord) returns ConstraintViolationError|Error? {
+        _ = check self.runBatchUpsertQuery([upsertRecord]);
+    }
+
     # Performs an SQL `SELECT` operation to read a single entity record from the database.
     #
     # + rowType - The type description of the entity to be retrieved
@@ -75,35 +237,175 @@ public isolated client class SQLClient {
     # + fields - The fields to be retrieved
     # + include - The relations to be retrieved (SQL `JOINs` to be performed)
     # + typeDescriptions - The type descriptions of the relations to be retrieved
+    # + primary - Whether the record should be read from the primary rather than a replica, such as to read back
+    # a record right after it is written. A key written by the client within the replica lag is read from the primary
+    # regardless
     # + return - A record in the `rowType` type or a `persist:Error` if the operation fails
-    public isolated function runReadByKeyQuery(typedesc<record {}> rowType, typedesc<record {}> rowTypeWithIdFields, anydata key, string[] fields = [], string[] include = [], typedesc<record {}>[] typeDescriptions = []) returns record {}|Error {
-        sql:ParameterizedQuery query = self.getSelectQuery(fields);
+    public isolated function runReadByKeyQuery(typedesc<record {}> rowType, typedesc<record {}> rowTypeWithIdFields, anydata key, string[] fields = [], string[] include = [], typedesc<record {}>[] typeDescriptions = [], boolean primary = false) returns record {}|Error {
+        int spanId = startOperationSpan(READ_BY_KEY_OPERATION, self.entityName, fields, include);
+        record {}|Error result = self.readByKey(rowType, rowTypeWithIdFields, key, fields, include, typeDescriptions, spanId, primary);
+        finishSpan(spanId, result is record {} ? 1 : 0, result is NotFoundError ? () : result is Error ? result : ());
+        return result;
+    }
 
-        foreach string joinKey in self.getJoinFields(include) {
-            query = sql:queryConcat(query, check self.getJoinQuery(joinKey));
+    private isolated function readByKey(typedesc<record {}> rowType, typedesc<record {}> rowTypeWithIdFields, anydata key, string[] fields, string[] include, typedesc<record {}>[] typeDescriptions, int spanId, boolean primary) returns record {}|Error {
+        string cacheKey = self.getCacheKey(key);
+        // a replica may not have applied a recent write of the key yet, hence the key is read from the primary, which
+        // also keeps the record of the replica from being cached in place of the written record
+        boolean fromPrimary = primary || self.isRecentlyWritten(cacheKey);
+
+        EntityCache? entityCache = include.length() == 0 ? self.entityCache : ();
+        EntityCache? negativeCache = self.negativeCache;
+        // reads within a transaction bypass the caches, as they should see the uncommitted changes of the transaction
+        if (entityCache is () && negativeCache is ()) || transactional {
+            return self.queryByKey(rowType, rowTypeWithIdFields, key, fields, include, typeDescriptions, spanId, fromPrimary);
         }
 
-        query = sql:queryConcat(query, check self.getWhereQuery(key));
+        if negativeCache is EntityCache && negativeCache.get(cacheKey, ABSENT_KEY) is true {
+            return self.getNotFoundError(key);
+        }
 
-        record {}|error result = self.dbClient->queryRow(query, rowTypeWithIdFields);
+        string projection = getProjectionKey(fields);
+        if entityCache is EntityCache {
+            anydata cached = entityCache.get(cacheKey, projection);
+            if cached is record {} {
+                record {}|error cachedResult = cached.cloneWithType(rowType);
+                if cachedResult is error {
+                    return <Error>error(cachedResult.message());
+                }
+                return cachedResult;
+            }
+        }
 
-        if result is sql:NoRowsError {
-            return <NotFoundError>error(string `A record does not exist for '${self.entityName}' for key ${key.toBalString()}.`);
+        int entityCacheTicket = entityCache is EntityCache ? entityCache.startLoad() : 0;
+        int negativeCacheTicket = negativeCache is EntityCache ? negativeCache.startLoad() : 0;
+        record {}|Error result = self.queryByKey(rowType, rowTypeWithIdFields, key, fields, include, typeDescriptions, spanId, fromPrimary);
+        if result is record {} && entityCache is EntityCache {
+            entityCache.put(cacheKey, projection, result.cloneReadOnly(), entityCacheTicket);
+        } else if result is NotFoundError && negativeCache is EntityCache {
+            negativeCache.put(cacheKey, ABSENT_KEY, true, negativeCacheTicket);
         }
+        return result;
+    }
 
-        if result is record {} {
-            check self.getManyRelations(result, fields, include, typeDescriptions);
-            self.removeUnwantedFields(result, fields);
-            result = result.cloneWithType(rowType);
+    # Performs SQL `SELECT` operations to read the entity records of the given keys from the database.
+    # The keys are read in chunks of `BATCH_READ_CHUNK_SIZE` keys, with a single query per chunk.
+    #
+    # + rowType - The type description of the entity to be retrieved
+    # + rowTypeWithIdFields - The type description of the entity to be retrieved with the key fields included
+    # + keys - The keys of the records to be retrieved
+    # + fields - The fields to be retrieved
+    # + include - The relations to be retrieved (SQL `JOINs` to be performed)
+    # + typeDescriptions - The type descriptions of the relations to be retrieved
+    # + return - The records in the `rowType` type in the order of the keys, with `()` in place of the keys
+    # for which a record does not exist, or a `persist:Error` if the operation fails
+    public isolated function runReadByKeysQuery(typedesc<record {}> rowType, typedesc<record {}> rowTypeWithIdFields, anydata[] keys, string[] fields = [], string[] include = [], typedesc<record {}>[] typeDescriptions = []) returns (record {}?)[]|Error {
+        int spanId = startOperationSpan(READ_BY_KEYS_OPERATION, self.entityName, fields, include);
+        (record {}?)[]|Error result = self.readByKeys(rowType, rowTypeWithIdFields, keys, fields, include, typeDescriptions, spanId);
+        finishSpan(spanId, result is Error ? () : result.length(), result is Error ? result : ());
+        return result;
+    }
+
+    private isolated function readByKeys(typedesc<record {}> rowType, typedesc<record {}> rowTypeWithIdFields, anydata[] keys, string[] fields, string[] include, typedesc<record {}>[] typeDescriptions, int spanId) returns (record {}?)[]|Error {
+        map<record {}> records = {};
+        record {}[] rows = [];
+        int offset = 0;
+        while offset < keys.length() {
+            anydata[] chunk = keys.slice(offset, int:min(offset + BATCH_READ_CHUNK_SIZE, keys.length()));
+            sql:ParameterizedQuery query = sql:queryConcat(check self.getReadQuery(fields, include), self.getKeysWhereQuery(chunk));
+
+            int querySpanId = startQuerySpan(spanId, self.entityName, query);
+            boolean fromPrimary = false;
+            foreach anydata key in chunk {
+                fromPrimary = fromPrimary || self.isRecentlyWritten(self.getCacheKey(key));
+            }
+            var [replica, readClient] = self.acquireReadClient(fromPrimary);
+            stream<record {}, sql:Error?> resultStream = readClient->query(query, rowTypeWithIdFields);
+            record {}[]|error chunkRows = from record {} row in resultStream
+                select row;
+            self.releaseReadClient(replica);
+            finishSpan(querySpanId, chunkRows is error ? () : chunkRows.length(), chunkRows is error ? chunkRows : ());
+
+            if chunkRows is error {
+                return <Error>error(chunkRows.message());
+            }
+            foreach record {} row in chunkRows {
+                records[self.getCacheKey(row)] = row;
+                rows.push(row);
+            }
+            offset += BATCH_READ_CHUNK_SIZE;
         }
 
-        if result is error {
-            return <Error>error(result.message());
+        // the database may match a key case or accent insensitively (depending on the collation), or return a
+        // numeric key in another representation, hence the rows not matching a key exactly are matched on the
+        // normalized key values
+        map<()> requestedKeys = {};
+        foreach anydata key in keys {
+            requestedKeys[self.getCacheKey(key)] = ();
+        }
+        record {}[] unmatchedRows = from record {} row in rows
+            where !requestedKeys.hasKey(self.getCacheKey(row))
+            select row;
+
+        (record {}?)[] objects = [];
+        record {}[] retrieved = [];
+        foreach anydata key in keys {
+            record {}? row = records[self.getCacheKey(key)] ?: self.getRowOfNormalizedKey(unmatchedRows, key);
+            if row is () {
+                objects.push(());
+                continue;
+            }
+
+            // the same key may be requested more than once, hence each key is given a copy of the row
+            record {} 'object = row.clone();
+            objects.push('object);
+            retrieved.push('object);
         }
 
+        offset = 0;
+        RelationQueryCounter relationQueryCounter = new (self.entityName, READ_BY_KEYS_OPERATION, include);
+        while offset < retrieved.length() {
+            check self.getManyRelationsOfRecords(retrieved.slice(offset, int:min(offset + BATCH_READ_CHUNK_SIZE, retrieved.length())),
+                fields, include, typeDescriptions, spanId, relationQueryCounter);
+            offset += BATCH_READ_CHUNK_SIZE;
+        }
+
+        (record {}?)[] result = [];
+        foreach record {}? 'object in objects {
+            if 'object is () {
+                result.push(());
+                continue;
+            }
+            self.removeUnwantedFields('object, fields);
+            record {}|error converted = 'object.cloneWithType(rowType);
+            if converted is error {
+                return <Error>error(converted.message());
+            }
+            result.push(converted);
+        }
         return result;
     }
 
+    private isolated function getRowOfNormalizedKey(record {}[] rows, anydata key) returns record {}? {
+        if rows.length() == 0 {
+            return ();
+        }
+        anydata[] normalizedKey = self.getNormalizedKeyValues(key);
+        foreach record {} row in rows {
+            if self.getNormalizedKeyValues(row) == normalizedKey {
+                return row;
+            }
+        }
+        return ();
+    }
+
+    private isolated function getNormalizedKeyValues(anydata key) returns anydata[] {
+        anydata[] values = key is map<anydata> ? from string keyField in self.keyFields
+            select key[keyField] : [key];
+        return from anydata value in values
+            select normalizeKeyValue(value);
+    }
+
     # Performs an SQL `SELECT` operation to read multiple entity records from the database.
     #
     # + rowType - The type description of the entity to be retrieved
@@ -112,28 +414,77 @@ public isolated client class SQLClient {
     # + return - A stream of records in the `rowType` type or a `persist:Error` if the operation fails
     public isolated function runReadQuery(typedesc<record {}> rowType, string[] fields = [], string[] include = [])
     returns stream<record {}, sql:Error?>|Error {
-        sql:ParameterizedQuery query = self.getSelectQuery(fields);
+        sql:ParameterizedQuery query = check self.getReadQuery(fields, include);
 
-        foreach string joinKey in self.getJoinFields(include) {
-            query = sql:queryConcat(query, check self.getJoinQuery(joinKey));
+        EntityCache? queryCache = self.queryCache;
+        if queryCache is () || transactional {
+            return self.queryStream(query, rowType);
+        }
+
+        string projection = getProjectionKey(fields, include);
+        anydata cached = queryCache.get(projection, RESULT_SET);
+        if cached is record {}[] {
+            record {}[] rows = [];
+            foreach record {} row in cached {
+                record {}|error clonedRow = row.cloneWithType(rowType);
+                if clonedRow is error {
+                    return <Error>error(clonedRow.message());
+                }
+                rows.push(clonedRow);
+            }
+            return rows.toStream();
         }
 
-        stream<record {}, sql:Error?> resultStream = self.dbClient->query(query, rowType);
-        return resultStream;
+        int ticket = queryCache.startLoad();
+        stream<record {}, sql:Error?> resultStream = self.queryStream(query, rowType);
+        record {}[] rows = [];
+        while rows.length() <= self.queryCacheMaxRows {
+            record {|record {} value;|}|sql:Error? nextRow = resultStream.next();
+            if nextRow is sql:Error {
+                check closeSQLEntityStream(resultStream);
+                return <Error>error(nextRow.message());
+            }
+
+            if nextRow is () {
+                // a result read from a replica right after a write may not reflect the write yet
+                ReplicaPool? replicaPool = self.replicaPool;
+                if replicaPool is () || !replicaPool.hasRecentWrites() {
+                    queryCache.put(projection, RESULT_SET, rows.cloneReadOnly(), ticket);
+                }
+                return rows.toStream();
+            }
+            rows.push(nextRow.value);
+        }
+
+        // the result is too large to be cached, hence the buffered rows are streamed before the remaining rows
+        return new stream<record {}, sql:Error?>(new BufferedStream(rows, resultStream));
     }
 
     # Performs an SQL `UPDATE` operation to update multiple entity records in the database.
+    # If the entity has a version field, the version of the record is incremented. If the update also holds the
+    # version field, the record is updated only if it is still of that version.
     #
     # + key - the key of the entity
     # + updateRecord - the record to be updated
     # + return - `()` if the operation is performed successfully.
     # A `ConstraintViolationError` if the operation violates a foreign key constraint.
+    # A `VersionConflictError` if the record is no longer of the given version.
     # A `persist:Error` if the operation fails due to another reason.
     public isolated function runUpdateQuery(anydata key, record {} updateRecord) returns ConstraintViolationError|Error? {
         sql:ParameterizedQuery query = check self.getUpdateQuery(updateRecord);
-        query = sql:queryConcat(query, check self.getWhereQuery(self.getKey(key)));
+        query = sql:queryConcat(query, check self.getWhereQuery(self.getKey(key)), self.getVersionCondition(updateRecord));
 
+        int startTime = startTimer();
+        decimal? slowOperationStartTime = startSlowOperationTimer();
+        int spanId = startOperationSpan(UPDATE_OPERATION, self.entityName, query = query);
         sql:ExecutionResult|sql:Error? e = self.dbClient->execute(query);
+        recordOperation(self.entityName, UPDATE_OPERATION, startTime, getAffectedRowCount(e), e is sql:Error);
+        finishSpan(spanId, getAffectedRowCount(e), e is sql:Error ? e : ());
+        decimal? slowOperationDuration = getSlowOperationDuration(slowOperationStartTime);
+        if slowOperationDuration is decimal {
+            logSlowOperation(self.entityName, UPDATE_OPERATION, slowOperationDuration, query, rows = getAffectedRowCount(e));
+        }
+        self.invalidateCachedRecord(key);
         if e is sql:Error {
             if e.message().indexOf("a foreign key constraint fails ") is int {
                 return <ConstraintViolationError>error(e.message());
@@ -142,6 +493,11 @@ public isolated client class SQLClient {
                 return <Error>error(e.message());
             }
         }
+
+        string? versionField = self.versionField;
+        if versionField is string && updateRecord.hasKey(versionField) && getAffectedRowCount(e) == 0 {
+            return self.getVersionConflictError(key, updateRecord[versionField]);
+        }
     }
 
     # Performs an SQL `DELETE` operation to delete an entity record from the database.
@@ -151,21 +507,208 @@ public isolated client class SQLClient {
     public isolated function runDeleteQuery(anydata deleteKey) returns Error? {
         sql:ParameterizedQuery query = self.getDeleteQuery();
         query = sql:queryConcat(query, check self.getWhereQuery(deleteKey));
+        int startTime = startTimer();
+        decimal? slowOperationStartTime = startSlowOperationTimer();
+        int spanId = startOperationSpan(DELETE_OPERATION, self.entityName, query = query);
         sql:ExecutionResult|sql:Error e = self.dbClient->execute(query);
+        recordOperation(self.entityName, DELETE_OPERATION, startTime, getAffectedRowCount(e), e is sql:Error);
+        finishSpan(spanId, getAffectedRowCount(e), e is sql:Error ? e : ());
+        decimal? slowOperationDuration = getSlowOperationDuration(slowOperationStartTime);
+        if slowOperationDuration is decimal {
+            logSlowOperation(self.entityName, DELETE_OPERATION, slowOperationDuration, query, rows = getAffectedRowCount(e));
+        }
+        self.invalidateCachedRecord(deleteKey);
 
         if e is sql:Error {
             return <Error>error(e.message());
         }
     }
 
+    # Performs SQL `UPDATE` operations to update multiple entity records in the database.
+    # The updates of the same fields share the same statement and are executed as a single batch.
+    # An update holding the version field of the entity does not affect the record if it is no longer of that version,
+    # in which case the result of the update holds a `persist:VersionConflictError`.
+    #
+    # + updates - The keys of the entities and the records to be updated
+    # + return - The outcome of each update in the order of the updates
+    # or a `persist:Error` if the statements could not be created
+    public isolated function runBatchUpdateQuery([anydata, record {}][] updates) returns BatchWriteResult[]|Error {
+        map<int[]> updateGroups = {};
+        foreach int i in 0 ..< updates.length() {
+            // the statements of a batch share the same SQL string, hence the fields are grouped in their given order
+            string setFields = updates[i][1].keys().toString();
+            int[]? updateGroup = updateGroups[setFields];
+            if updateGroup is int[] {
+                updateGroup.push(i);
+            } else {
+                updateGroups[setFields] = [i];
+            }
+        }
+
+        sql:ParameterizedQuery[][] batches = [];
+        foreach int[] updateGroup in updateGroups {
+            sql:ParameterizedQuery[] queries = [];
+            foreach int i in updateGroup {
+                var [key, updateRecord] = updates[i];
+                queries.push(sql:queryConcat(check self.getUpdateQuery(updateRecord), check self.getWhereQuery(self.getKey(key)),
+                    self.getVersionCondition(updateRecord)));
+            }
+            batches.push(queries);
+        }
+
+        anydata[] keys = from var [key, _] in updates
+            select key;
+        BatchWriteResult[] results = self.runBatchWrite(UPDATE_OPERATION, keys, batches, updateGroups.toArray());
+
+        string? versionField = self.versionField;
+        if versionField is () {
+            return results;
+        }
+        foreach int i in 0 ..< updates.length() {
+            var [key, updateRecord] = updates[i];
+            BatchWriteResult result = results[i];
+            if result.affected || result.'error is Error || !updateRecord.hasKey(versionField) {
+                continue;
+            }
+            // an update of a key which does not exist is reported as not affected, as is the case without a version
+            VersionConflictError|NotFoundError|Error versionError = self.getVersionConflictError(key, updateRecord[versionField]);
+            if versionError is VersionConflictError {
+                result.'error = versionError;
+            }
+        }
+        return results;
+    }
+
+    # Performs SQL `DELETE` operations to delete multiple entity records from the database as a single batch.
+    #
+    # + deleteKeys - The keys of the entity records to be deleted
+    # + return - The outcome of each delete in the order of the keys
+    # or a `persist:Error` if the statements could not be created
+    public isolated function runBatchDeleteQuery(anydata[] deleteKeys) returns BatchWriteResult[]|Error {
+        if deleteKeys.length() == 0 {
+            return [];
+        }
+
+        sql:ParameterizedQuery[] queries = [];
+        foreach anydata deleteKey in deleteKeys {
+            // the statements of a batch share the same SQL string, hence the key fields are given in the order of the
+            // key fields of the entity
+            queries.push(sql:queryConcat(self.getDeleteQuery(), check self.getWhereQuery(self.getKey(deleteKey))));
+        }
+
+        int[] indexes = from int i in 0 ..< deleteKeys.length()
+            select i;
+        return self.runBatchWrite(DELETE_OPERATION, deleteKeys, [queries], [indexes]);
+    }
+
+    # Performs an SQL `UPDATE` operation to update the entity records matching a filter, without retrieving them.
+    #
+    # + filter - The values of the fields the records should match, or an SQL condition on the columns
+    # of the table, which is aliased by the entity name (e.g., `Building.city = ${city}`). A `FilterPredicate` is not supported
+    # + updateRecord - The fields to be updated
+    # + return - The number of records updated.
+    # A `ConstraintViolationError` if the operation violates a foreign key constraint.
+    # A `persist:Error` if the operation fails due to another reason.
+    public isolated function runUpdateWhereQuery(WriteFilter filter, record {} updateRecord) returns int|Error {
+        sql:ParameterizedQuery query = sql:queryConcat(check self.getUpdateQuery(updateRecord), check self.getFilterQuery(filter));
+        sql:ExecutionResult|sql:Error result = self.runFilterWriteQuery(UPDATE_OPERATION, query);
+        if result is sql:Error {
+            return getWriteError(result);
+        }
+        return getAffectedRowCount(result);
+    }
+
+    # Performs an SQL `DELETE` operation to delete the entity records matching a filter, without retrieving them.
+    #
+    # + filter - The values of the fields the records should match, or an SQL condition on the columns
+    # of the table, which is aliased by the entity name (e.g., `Building.city = ${city}`). A `FilterPredicate` is not supported
+    # + return - The number of records deleted or a `persist:Error` if the operation fails
+    public isolated function runDeleteWhereQuery(WriteFilter filter) returns int|Error {
+        sql:ParameterizedQuery query = sql:queryConcat(self.getDeleteQuery(), check self.getFilterQuery(filter));
+        sql:ExecutionResult|sql:Error result = self.runFilterWriteQuery(DELETE_OPERATION, query);
+        if result is sql:Error {
+            return getWriteError(result);
+        }
+        return getAffectedRowCount(result);
+    }
+
+    # Queues an SQL `INSERT` operation to insert an entity instance into a table asynchronously.
+    # The insert is written by the workers of the asynchronous writes, and its failure is logged.
+    #
+    # + insertRecord - The entity record to be inserted into the table
+    # + return - `()` if the insert is queued or a `persist:Error` if the asynchronous writes are not enabled or closed
+    public isolated function runAsyncInsertQuery(record {} insertRecord) returns Error? {
+        return self.queueAsyncWrite({operation: INSERT_OPERATION, key: getKey(insertRecord, self.keyFields), value: insertRecord});
+    }
+
+    # Queues an SQL `UPDATE` operation to update an entity record asynchronously.
+    # The update is written by the workers of the asynchronous writes, and its failure is logged.
+    #
+    # + key - The key of the entity
+    # + updateRecord - The record to be updated
+    # + return - `()` if the update is queued or a `persist:Error` if the asynchronous writes are not enabled or closed
+    public isolated function runAsyncUpdateQuery(anydata key, record {} updateRecord) returns Error? {
+        return self.queueAsyncWrite({operation: UPDATE_OPERATION, key, value: updateRecord});
+    }
+
+    # Waits until all the queued asynchronous writes are written.
+    public isolated function flushAsyncWrites() {
+        handle? writeQueue = self.writeQueue;
+        if writeQueue is handle {
+            flushWriteQueue(writeQueue);
+        }
+    }
+
+    # Closes the asynchronous writes. The writes already queued are written, and the subsequent writes are rejected.
+    # This waits until the queued writes are written.
+    public isolated function closeAsyncWrites() {
+        handle? writeQueue = self.writeQueue;
+        if writeQueue is handle {
+            closeWriteQueue(writeQueue);
+            flushWriteQueue(writeQueue);
+        }
+    }
+
+    # Closes the client. The queued asynchronous writes are written, and the caches of the client are no longer
+    # invalidated through the invalidation bus. The database clients are not closed, as they are owned by the caller.
+    #
+    # + return - `()` if the client is closed successfully or a `persist:Error` if the client could not be
+    # unsubscribed from the invalidation bus
+    public isolated function close() returns Error? {
+        self.closeAsyncWrites();
+        InvalidationBus? invalidationBus = self.invalidationBus;
+        InvalidationListener? invalidationListener = self.invalidationListener;
+        if invalidationBus is InvalidationBus && invalidationListener is InvalidationListener {
+            check invalidationBus.unsubscribe(invalidationListener);
+        }
+    }
+
+    # Retrieves the statistics of the asynchronous writes of the client.
+    #
+    # + return - The `persist:AsyncWriteStats` or `()` if the asynchronous writes are not enabled
+    public isolated function getAsyncWriteStats() returns AsyncWriteStats? {
+        handle? writeQueue = self.writeQueue;
+        if writeQueue is handle {
+            return getWriteQueueStats(writeQueue);
+        }
+        return ();
+    }
+
     # Retrieves the values of the 'many' side of an association.
     #
     # + 'object - The record to which the retrieved records should be appended
     # + fields - The fields to be retrieved
     # + include - The relations to be retrieved (SQL `JOINs` to be performed)
     # + typeDescriptions - The type descriptions of the relations to be retrieved
+    # + parentSpanId - The ID of the tracing span of the operation, which retrieves the record
     # + return - `()` if the operation is performed successfully or a `persist:Error` if the operation fails
-    public isolated function getManyRelations(anydata 'object, string[] fields, string[] include, typedesc<record {}>[] typeDescriptions) returns Error? {
+    public isolated function getManyRelations(anydata 'object, string[] fields, string[] include, typedesc<record {}>[] typeDescriptions, int parentSpanId = NO_SPAN) returns Error? {
+        return self.getCountedManyRelations('object, fields, include, typeDescriptions, parentSpanId,
+            new (self.entityName, READ_BY_KEY_OPERATION, include));
+    }
+
+    // the relation queries are counted towards the operation, which retrieves the record, as they are issued
+    isolated function getCountedManyRelations(anydata 'object, string[] fields, string[] include, typedesc<record {}>[] typeDescriptions, int parentSpanId, RelationQueryCounter relationQueryCounter, boolean primary = false) returns Error? {
         if !('object is record {}) {
             return <Error>error("The 'object' parameter should be a record");
         }
@@ -183,9 +726,16 @@ public isolated client class SQLClient {
                 ` WHERE`, check self.getWhereClauses(whereFilter, true)
             );
 
-            stream<record {}, sql:Error?> joinStream = self.dbClient->query(query, joinRelationTypedesc);
+            int startTime = startTimer();
+            int spanId = startQuerySpan(parentSpanId, self.entityName, query, joinKey);
+            var [replica, readClient] = self.acquireReadClient(primary);
+            stream<record {}, sql:Error?> joinStream = readClient->query(query, joinRelationTypedesc);
             record {}[]|error arr = from record {} item in joinStream
                 select item;
+            self.releaseReadClient(replica);
+            relationQueryCounter.count();
+            recordOperation(self.entityName, RELATION_FETCH_OPERATION, startTime, arr is error ? 0 : arr.length(), arr is error);
+            finishSpan(spanId, arr is error ? () : arr.length(), arr is error ? arr : ());
 
             if arr is error {
                 return <Error>error(arr.message());
@@ -195,10 +745,482 @@ public isolated client class SQLClient {
         }
     }
 
+    // the to-many relations of the records are retrieved with a single query per relation, and are grouped by the
+    // values of the join columns, instead of a query per record
+    private isolated function getManyRelationsOfRecords(record {}[] objects, string[] fields, string[] include, typedesc<record {}>[] typeDescriptions, int parentSpanId, RelationQueryCounter relationQueryCounter) returns Error? {
+        if objects.length() == 0 {
+            return;
+        }
+
+        foreach string joinKey in self.getManyRelationFields(include) {
+            JoinMetadata joinMetadata = self.joinMetadata.get(joinKey);
+            typedesc<record {}> joinRelationTypedesc = self.getJoinRelationTypedescription(typeDescriptions, include, joinKey);
+            string[] joinFields = [];
+            foreach string joinColumn in joinMetadata.joinColumns {
+                joinFields.push(check self.getFieldFromColumn(joinColumn));
+            }
+
+            map<anydata[]> joinValues = {};
+            foreach record {} 'object in objects {
+                anydata[] values = from string joinField in joinFields
+                    select 'object[joinField];
+                joinValues[values.toBalString()] = values;
+            }
+
+            // the reference columns are retrieved under aliases, as they may not be among the retrieved fields
+            string[] refColumnAliases = from int i in 0 ..< joinMetadata.refColumns.length()
+                select REF_COLUMN_ALIAS + i.toString();
+            string[] aliasedRefColumns = from int i in 0 ..< joinMetadata.refColumns.length()
+                select joinMetadata.refColumns[i] + " AS " + refColumnAliases[i];
+            sql:ParameterizedQuery query = sql:queryConcat(
+                ` SELECT `, self.getManyRelationColumnNames(joinMetadata.fieldName, fields), `, `, arrayToParameterizedQuery(aliasedRefColumns),
+                ` FROM `, stringToParameterizedQuery(joinMetadata.refTable),
+                ` WHERE (`, arrayToParameterizedQuery(joinMetadata.refColumns), `) IN (`, getValueTuples(joinValues.toArray()), `)`
+            );
+
+            int startTime = startTimer();
+            int spanId = startQuerySpan(parentSpanId, self.entityName, query, joinKey);
+            var [replica, readClient] = self.acquireReadClient();
+            stream<record {}, sql:Error?> joinStream = readClient->query(query);
+            record {}[]|error items = from record {} item in joinStream
+                select item;
+            self.releaseReadClient(replica);
+            relationQueryCounter.count();
+            recordOperation(self.entityName, RELATION_FETCH_OPERATION, startTime, items is error ? 0 : items.length(), items is error);
+            finishSpan(spanId, items is error ? () : items.length(), items is error ? items : ());
+
+            if items is error {
+                return <Error>error(items.message());
+            }
+
+            map<record {}[]> relations = {};
+            foreach record {} item in items {
+                string groupKey = (from string alias in refColumnAliases
+                    select item.remove(alias)).toBalString();
+                record {}|error relation = item.cloneWithType(joinRelationTypedesc);
+                if relation is error {
+                    return <Error>error(relation.message());
+                }
+                record {}[]? group = relations[groupKey];
+                if group is record {}[] {
+                    group.push(relation);
+                } else {
+                    relations[groupKey] = [relation];
+                }
+            }
+
+            foreach record {} 'object in objects {
+                string groupKey = (from string joinField in joinFields
+                    select 'object[joinField]).toBalString();
+                'object[joinMetadata.fieldName] = convertToArray(joinRelationTypedesc, (relations[groupKey] ?: []).clone());
+            }
+        }
+    }
+
     public isolated function getKeyFields() returns string[] {
         return self.keyFields;
     }
 
+    public isolated function getEntityName() returns string {
+        return self.entityName;
+    }
+
+    # Retrieves the statistics of the entity cache.
+    #
+    # + return - The `persist:CacheStats` or `()` if caching is not enabled for the client
+    public isolated function getCacheStats() returns CacheStats? {
+        EntityCache? entityCache = self.entityCache;
+        if entityCache is () {
+            return;
+        }
+        return entityCache.getStats();
+    }
+
+    # Retrieves the statistics of the query result cache.
+    #
+    # + return - The `persist:CacheStats` or `()` if result caching is not enabled for the client
+    public isolated function getQueryCacheStats() returns CacheStats? {
+        EntityCache? queryCache = self.queryCache;
+        if queryCache is () {
+            return;
+        }
+        return queryCache.getStats();
+    }
+
+    # Retrieves the statistics of the cache of keys, which are known not to exist in the data store.
+    #
+    # + return - The `persist:CacheStats` or `()` if negative caching is not enabled for the client
+    public isolated function getNegativeCacheStats() returns CacheStats? {
+        EntityCache? negativeCache = self.negativeCache;
+        if negativeCache is () {
+            return;
+        }
+        return negativeCache.getStats();
+    }
+
+    # Retrieves the statistics of the connection pool used by the client.
+    #
+    # + return - The `persist:ConnectionPoolStats` or `()` if the client does not use a connection pool
+    public isolated function getConnectionPoolStats() returns ConnectionPoolStats? {
+        return getConnectionPoolStats(self.dbClient);
+    }
+
+    private isolated function queryByKey(typedesc<record {}> rowType, typedesc<record {}> rowTypeWithIdFields, anydata key, string[] fields, string[] include, typedesc<record {}>[] typeDescriptions, int spanId, boolean primary) returns record {}|Error {
+        sql:ParameterizedQuery query = self.getSelectQuery(fields);
+
+        foreach string joinKey in self.getJoinFields(include) {
+            query = sql:queryConcat(query, check self.getJoinQuery(joinKey));
+        }
+
+        query = sql:queryConcat(query, check self.getWhereQuery(key));
+
+        decimal? startTime = startSlowOperationTimer();
+        int querySpanId = startQuerySpan(spanId, self.entityName, query);
+        var [replica, readClient] = self.acquireReadClient(primary);
+        record {}|error result = readClient->queryRow(query, rowTypeWithIdFields);
+        self.releaseReadClient(replica);
+        finishSpan(querySpanId, result is record {} ? 1 : 0, result is sql:NoRowsError ? () : result is error ? result : ());
+
+        if result is sql:NoRowsError {
+            self.logSlowReadQuery(startTime, READ_BY_KEY_OPERATION, query, fields, include, 0, 0);
+            return self.getNotFoundError(key);
+        }
+
+        RelationQueryCounter relationQueryCounter = new (self.entityName, READ_BY_KEY_OPERATION, include);
+        if result is record {} {
+            check self.getCountedManyRelations(result, fields, include, typeDescriptions, spanId, relationQueryCounter, primary);
+            self.removeUnwantedFields(result, fields);
+            result = result.cloneWithType(rowType);
+        }
+
+        if result is error {
+            return <Error>error(result.message());
+        }
+
+        self.logSlowReadQuery(startTime, READ_BY_KEY_OPERATION, query, fields, include, 1, relationQueryCounter.getCount());
+        return result;
+    }
+
+    # Logs a read operation, if it exceeds the slow operation threshold.
+    #
+    # + startTime - The start time returned by `startSlowOperationTimer`
+    # + operation - The read operation
+    # + query - The query or `()` if the query should be rebuilt from the fields and the relations
+    # + fields - The fields retrieved by the operation
+    # + include - The relations retrieved by the operation
+    # + rows - The number of rows retrieved
+    # + relationQueries - The number of relation queries issued by the operation
+    isolated function logSlowReadQuery(decimal? startTime, string operation, sql:ParameterizedQuery? query, string[] fields, string[] include, int rows, int relationQueries) {
+        decimal? duration = getSlowOperationDuration(startTime);
+        if duration is () {
+            return;
+        }
+
+        // the query is rebuilt only for the slow operations, which avoids retaining it for the lifetime of a stream
+        sql:ParameterizedQuery|Error slowQuery = query ?: self.getReadQuery(fields, include);
+        if slowQuery is Error {
+            return;
+        }
+        logSlowOperation(self.entityName, operation, duration, slowQuery, include, rows, relationQueries);
+    }
+
+    # Returns the query used to read multiple entity records, as built by `runReadQuery`.
+    #
+    # + fields - The fields to be retrieved
+    # + include - The associations to be retrieved
+    # + return - The query or a `persist:Error` if the query cannot be built
+    isolated function getReadQuery(string[] fields, string[] include) returns sql:ParameterizedQuery|Error {
+        sql:ParameterizedQuery query = self.getSelectQuery(fields);
+        foreach string joinKey in self.getJoinFields(include) {
+            query = sql:queryConcat(query, check self.getJoinQuery(joinKey));
+        }
+        return query;
+    }
+
+    private isolated function runBatchWriteQueries(string operation, sql:ParameterizedQuery[] queries, record {}[] records) returns sql:ExecutionResult[]|sql:Error {
+        int startTime = startTimer();
+        decimal? slowOperationStartTime = startSlowOperationTimer();
+        int spanId = startOperationSpan(operation, self.entityName, query = queries.length() > 0 ? queries[0] : ());
+        sql:ExecutionResult[]|sql:Error result = self.dbClient->batchExecute(queries);
+        recordOperation(self.entityName, operation, startTime, result is sql:Error ? 0 : records.length(), result is sql:Error);
+        finishSpan(spanId, result is sql:Error ? 0 : records.length(), result is sql:Error ? result : ());
+        decimal? slowOperationDuration = getSlowOperationDuration(slowOperationStartTime);
+        if slowOperationDuration is decimal && queries.length() > 0 {
+            logSlowOperation(self.entityName, operation, slowOperationDuration, queries[0], rows = queries.length());
+        }
+        self.invalidateCachedRecords(records);
+        return result;
+    }
+
+    private isolated function runFilterWriteQuery(string operation, sql:ParameterizedQuery query) returns sql:ExecutionResult|sql:Error {
+        int startTime = startTimer();
+        decimal? slowOperationStartTime = startSlowOperationTimer();
+        int spanId = startOperationSpan(operation, self.entityName, query = query);
+        sql:ExecutionResult|sql:Error result = self.dbClient->execute(query);
+        recordOperation(self.entityName, operation, startTime, getAffectedRowCount(result), result is sql:Error);
+        finishSpan(spanId, getAffectedRowCount(result), result is sql:Error ? result : ());
+        decimal? slowOperationDuration = getSlowOperationDuration(slowOperationStartTime);
+        if slowOperationDuration is decimal {
+            logSlowOperation(self.entityName, operation, slowOperationDuration, query, rows = getAffectedRowCount(result));
+        }
+        // the keys of the written records are not known, hence all the cached records of the entity are invalidated
+        self.invalidateAllCachedRecords();
+        return result;
+    }
+
+    private isolated function runBatchWrite(string operation, anydata[] keys, sql:ParameterizedQuery[][] batches, int[][] batchIndexes) returns BatchWriteResult[] {
+        BatchWriteResult[] results = from anydata key in keys
+            select {key};
+        int startTime = startTimer();
+        decimal? slowOperationStartTime = startSlowOperationTimer();
+        int spanId = startOperationSpan(operation, self.entityName, query = batches.length() > 0 ? batches[0][0] : ());
+
+        int affectedRows = 0;
+        sql:Error? batchError = ();
+        foreach int i in 0 ..< batches.length() {
+            sql:ExecutionResult[]|sql:Error executionResults = self.dbClient->batchExecute(batches[i]);
+            // a failed batch still reports the results of the statements executed before (and after, depending on
+            // the driver) the failed statement
+            sql:ExecutionResult[] completed = executionResults is sql:ExecutionResult[] ? executionResults
+                : executionResults is sql:BatchExecuteError ? executionResults.detail().executionResults : [];
+            foreach int j in 0 ..< batchIndexes[i].length() {
+                BatchWriteResult result = results[batchIndexes[i][j]];
+                int? affectedRowCount = j < completed.length() ? completed[j].affectedRowCount : ();
+                if affectedRowCount is int && affectedRowCount != EXECUTE_FAILED {
+                    result.affected = affectedRowCount > 0;
+                    affectedRows += affectedRowCount;
+                } else if executionResults is sql:Error {
+                    result.'error = getWriteError(executionResults);
+                }
+            }
+            if executionResults is sql:Error {
+                batchError = executionResults;
+            }
+        }
+
+        recordOperation(self.entityName, operation, startTime, affectedRows, batchError is sql:Error);
+        finishSpan(spanId, affectedRows, batchError);
+        decimal? slowOperationDuration = getSlowOperationDuration(slowOperationStartTime);
+        if slowOperationDuration is decimal && batches.length() > 0 {
+            logSlowOperation(self.entityName, operation, slowOperationDuration, batches[0][0], rows = affectedRows);
+        }
+        self.invalidateCachedRecords(keys);
+        return results;
+    }
+
+    private isolated function queryStream(sql:ParameterizedQuery query, typedesc<record {}> rowType) returns stream<record {}, sql:Error?> {
+        var [replica, readClient] = self.acquireReadClient();
+        stream<record {}, sql:Error?> resultStream = readClient->query(query, rowType);
+        ReplicaPool? replicaPool = self.replicaPool;
+        if replicaPool is () || replica == NO_REPLICA {
+            return resultStream;
+        }
+        // the rows of a stream are fetched as the stream is consumed, hence the replica is released only once the
+        // stream is exhausted or closed
+        return new stream<record {}, sql:Error?>(new ReplicaResultIterator(resultStream, replicaPool, replica));
+    }
+
+    private isolated function acquireReadClient(boolean primary = false) returns [int, sql:Client] {
+        ReplicaPool? replicaPool = self.replicaPool;
+        // reads within a transaction are pinned to the primary, as they should see the uncommitted changes of the transaction
+        if replicaPool is () || primary || transactional {
+            return [NO_REPLICA, self.dbClient];
+        }
+        return replicaPool.acquire();
+    }
+
+    private isolated function isRecentlyWritten(string cacheKey) returns boolean {
+        ReplicaPool? replicaPool = self.replicaPool;
+        return replicaPool is ReplicaPool && replicaPool.isRecentlyWritten(cacheKey);
+    }
+
+    private isolated function releaseReadClient(int replica) {
+        ReplicaPool? replicaPool = self.replicaPool;
+        if replicaPool is ReplicaPool {
+            replicaPool.release(replica);
+        }
+    }
+
+    // an update of a version does not affect a record either if the record is of another version or if it does not exist
+    private isolated function getVersionConflictError(anydata key, anydata version) returns VersionConflictError|NotFoundError|Error {
+        sql:ParameterizedQuery query = sql:queryConcat(`SELECT COUNT(*) FROM `, stringToParameterizedQuery(self.tableName), ` AS `,
+            stringToParameterizedQuery(self.entityName), check self.getWhereQuery(self.getKey(key)));
+        int|sql:Error count = self.dbClient->queryRow(query);
+        if count is sql:Error {
+            return <Error>error(count.message());
+        }
+        if count == 0 {
+            return self.getNotFoundError(key);
+        }
+        return <VersionConflictError>error(string `The '${self.entityName}' entity with the key '${key.toString()}' is no longer of version '${version.toString()}'.`);
+    }
+
+    private isolated function queueAsyncWrite(AsyncWrite write) returns Error? {
+        handle? writeQueue = self.writeQueue;
+        if writeQueue is () {
+            return <Error>error(string `Asynchronous writes are not enabled for the '${self.entityName}' entity.`);
+        }
+        // the write is queued until it is written, hence it should not be affected by modifications of the caller
+        if !putWriteQueue(writeQueue, write.cloneReadOnly()) {
+            return <Error>error(string `Asynchronous writes of the '${self.entityName}' entity are closed.`);
+        }
+    }
+
+    private isolated function drainAsyncWrites(handle writeQueue, int batchSize) {
+        while true {
+            anydata[]? writes = takeWriteQueue(writeQueue, batchSize);
+            if writes is () {
+                return;
+            }
+
+            int startTime = startTimer();
+            // the writes are always reported as done, as a pending flush waits for them, and the worker should
+            // survive a panic while writing a batch
+            int|error result = trap self.runAsyncWrites(from anydata write in writes
+                select <AsyncWrite>write);
+            int failed;
+            if result is error {
+                log:printError(string `Failed to write the '${self.entityName}' entities asynchronously`, 'error = result);
+                failed = writes.length();
+            } else {
+                failed = result;
+            }
+            recordOperation(self.entityName, ASYNC_WRITE_OPERATION, startTime, writes.length() - failed, failed > 0);
+            completeWriteQueue(writeQueue, writes.length(), failed);
+        }
+    }
+
+    // the inserts of a batch are written before the updates, hence a record can be updated along with its insert
+    private isolated function runAsyncWrites(AsyncWrite[] writes) returns int {
+        record {}[] inserts = from AsyncWrite write in writes
+            where write.operation == INSERT_OPERATION
+            select write.value;
+        [anydata, record {}][] updates = from AsyncWrite write in writes
+            where write.operation == UPDATE_OPERATION
+            select [write.key, write.value];
+
+        int failed = 0;
+        if inserts.length() > 0 {
+            foreach sql:ExecutionResult|Error result in self.runBatchInsertQueryWithResults(inserts) {
+                if result is Error {
+                    failed += 1;
+                    log:printError(string `Failed to insert a '${self.entityName}' entity asynchronously`, 'error = result);
+                }
+            }
+        }
+        if updates.length() > 0 {
+            BatchWriteResult[]|Error results = self.runBatchUpdateQuery(updates);
+            if results is Error {
+                log:printError(string `Failed to update the '${self.entityName}' entities asynchronously`, 'error = results);
+                return failed + updates.length();
+            }
+            foreach BatchWriteResult result in results {
+                Error? e = result.affected ? () : result.'error ?: self.getNotFoundError(result.key);
+                if e is Error {
+                    failed += 1;
+                    log:printError(string `Failed to update a '${self.entityName}' entity asynchronously`, 'error = e);
+                }
+            }
+        }
+        return failed;
+    }
+
+    private isolated function getInsertError(sql:Error e, record {} insertRecord) returns Error {
+        if e.message().indexOf("Duplicate entry ") != () {
+            return <AlreadyExistsError>error(string `A ${self.entityName} entity with the key '${getKey(insertRecord, self.keyFields).toString()}' already exists.`);
+        }
+        return getWriteError(e);
+    }
+
+    private isolated function getNotFoundError(anydata key) returns NotFoundError {
+        return <NotFoundError>error(string `A record does not exist for '${self.entityName}' for key ${key.toBalString()}.`);
+    }
+
+    private isolated function getCacheKey(anydata key) returns string {
+        if key is map<anydata> {
+            return (from string keyField in self.keyFields
+                select key[keyField]).toBalString();
+        }
+        return [key].toBalString();
+    }
+
+    private isolated function invalidateCachedRecord(anydata key) {
+        self.invalidateCachedRecords([key]);
+    }
+
+    private isolated function invalidateCachedRecords(anydata[] keys) {
+        if self.entityCache is () && self.negativeCache is () && self.queryCache is () && self.invalidationBus is () && self.replicaPool is () {
+            return;
+        }
+
+        string[] & readonly cacheKeys = (from anydata key in keys
+            select self.getCacheKey(key)).cloneReadOnly();
+        self.invalidateWrittenCacheKeys(cacheKeys);
+    }
+
+    private isolated function invalidateAllCachedRecords() {
+        if self.entityCache is () && self.negativeCache is () && self.queryCache is () && self.invalidationBus is () && self.replicaPool is () {
+            return;
+        }
+        self.invalidateWrittenCacheKeys([ALL_CACHE_KEYS]);
+    }
+
+    private isolated function invalidateWrittenCacheKeys(string[] & readonly cacheKeys) {
+        if transactional {
+            // the changes are not visible to the other readers until the transaction is committed,
+            // hence the cached records are invalidated only once the transaction is committed
+            final string transactionId = transactions:info().xid.toBase16();
+            if self.addToTransactionWriteSet(transactionId, cacheKeys) {
+                transactions:onCommit(isolated function(transactions:Info info) {
+                    self.invalidateCacheKeys(self.removeTransactionWriteSet(transactionId));
+                });
+                transactions:onRollback(isolated function(transactions:Info info, error? cause, boolean willRetry) {
+                    _ = self.removeTransactionWriteSet(transactionId);
+                });
+            }
+            return;
+        }
+
+        self.invalidateCacheKeys(cacheKeys);
+    }
+
+    private isolated function invalidateCacheKeys(string[] & readonly cacheKeys) {
+        ReplicaPool? replicaPool = self.replicaPool;
+        if replicaPool is ReplicaPool {
+            replicaPool.recordWrites(cacheKeys);
+        }
+        invalidateCaches(cacheKeys, self.entityCache, self.negativeCache, self.queryCache);
+
+        InvalidationBus? invalidationBus = self.invalidationBus;
+        if invalidationBus is InvalidationBus {
+            Error? result = invalidationBus.publish({entity: self.entityName, keys: cacheKeys, publisher: self.clientId});
+            if result is Error {
+                // the caches of the other instances are refreshed only once the cached records expire
+                log:printError(string `Failed to publish the cache invalidation of '${self.entityName}'`, 'error = result);
+            }
+        }
+    }
+
+    // returns `true` if this is the first write of the transaction
+    private isolated function addToTransactionWriteSet(string transactionId, string[] & readonly cacheKeys) returns boolean {
+        lock {
+            string[]? writeSet = self.transactionWriteSets[transactionId];
+            if writeSet is string[] {
+                writeSet.push(...cacheKeys);
+                return false;
+            }
+            self.transactionWriteSets[transactionId] = [...cacheKeys];
+            return true;
+        }
+    }
+
+    private isolated function removeTransactionWriteSet(string transactionId) returns string[] & readonly {
+        lock {
+            string[]? writeSet = self.transactionWriteSets.removeIfHasKey(transactionId);
+            return writeSet is string[] ? writeSet.cloneReadOnly() : [];
+        }
+    }
+
     private isolated function getKey(anydata|record {} 'object) returns record {} {
         record {} keyRecord = {};
 
@@ -370,18 +1392,96 @@ public isolated client class SQLClient {
             select sql:queryConcat(`INSERT INTO `, stringToParameterizedQuery(self.tableName), ` (`, self.getInsertColumnNames(), ` ) `, `VALUES `, self.getInsertQueryParams(insertRecord));
     }
 
+    private isolated function getUpsertQueries(record {}[] upsertRecords) returns sql:ParameterizedQuery[] {
+        string? versionField = self.versionField;
+        // the inserted row is referred to by a row alias, as the `VALUES()` function is deprecated as of MySQL 8.0.20
+        string[] updateColumns = from string 'field in self.getInsertableFields()
+            where self.keyFields.indexOf('field) is () && 'field != versionField
+            let string column = self.getColumnFromField('field)
+            select string `${column} = ${UPSERT_ROW_ALIAS}.${column}`;
+        if versionField is string {
+            // the version of an existing record is incremented as by an update, so that the concurrent versioned
+            // updates based on the former version are rejected
+            string versionColumn = self.getColumnFromField(versionField);
+            updateColumns.push(string `${versionColumn} = ${versionColumn} + 1`);
+        }
+        if updateColumns.length() == 0 {
+            // all the fields are key fields, hence an existing record is left as it is
+            string keyColumn = self.getColumnFromField(self.keyFields[0]);
+            updateColumns.push(string `${keyColumn} = ${keyColumn}`);
+        }
+
+        sql:ParameterizedQuery updateClause = sql:queryConcat(stringToParameterizedQuery(string ` AS ${UPSERT_ROW_ALIAS}`),
+            ` ON DUPLICATE KEY UPDATE `, arrayToParameterizedQuery(updateColumns, `, `));
+        return from sql:ParameterizedQuery insertQuery in self.getInsertQueries(upsertRecords)
+            select sql:queryConcat(insertQuery, updateClause);
+    }
+
     private isolated function getSelectQuery(string[] fields) returns sql:ParameterizedQuery {
         return sql:queryConcat(
             `SELECT `, self.getSelectColumnNames(fields), ` FROM `, stringToParameterizedQuery(self.tableName), ` AS `, stringToParameterizedQuery(self.entityName)
         );
     }
 
+    private isolated function getKeysWhereQuery(anydata[] keys) returns sql:ParameterizedQuery {
+        string[] keyColumns = from string keyField in self.keyFields
+            select self.entityName + "." + self.getColumnFromField(keyField);
+        sql:ParameterizedQuery query = sql:queryConcat(` WHERE (`, arrayToParameterizedQuery(keyColumns), `) IN (`);
+
+        foreach int i in 0 ..< keys.length() {
+            record {} keyRecord = self.getKey(keys[i]);
+            sql:ParameterizedQuery keyValues = i == 0 ? `(` : `, (`;
+            foreach int j in 0 ..< self.keyFields.length() {
+                keyValues = sql:queryConcat(keyValues, j == 0 ? `` : `, `, `${<sql:Value>keyRecord[self.keyFields[j]]}`);
+            }
+            query = sql:queryConcat(query, keyValues, `)`);
+        }
+        return sql:queryConcat(query, `)`);
+    }
+
     private isolated function getWhereQuery(anydata key) returns sql:ParameterizedQuery|Error {
         return sql:queryConcat(` WHERE `, check self.getGetKeyWhereClauses(key));
     }
 
+    private isolated function getFilterQuery(WriteFilter filter) returns sql:ParameterizedQuery|Error {
+        if filter is sql:ParameterizedQuery {
+            return sql:queryConcat(` WHERE `, filter);
+        }
+        if filter is FilterPredicate {
+            return <Error>error(string `Filter predicates are not supported by the SQL client of the '${self.entityName}' entity.`);
+        }
+
+        foreach string 'field in filter.keys() {
+            if !(self.fieldMetadata['field] is SimpleFieldMetadata) {
+                return <Error>error(string `'${'field}' is not a field of the '${self.entityName}' entity.`);
+            }
+        }
+        // an empty filter matches all the records
+        return filter.length() == 0 ? `` : sql:queryConcat(` WHERE `, check self.getWhereClauses(filter));
+    }
+
     private isolated function getUpdateQuery(record {} updateRecord) returns sql:ParameterizedQuery|Error {
-        return sql:queryConcat(`UPDATE `, stringToParameterizedQuery(self.tableName), stringToParameterizedQuery(" " + self.entityName), ` SET `, check self.getSetClauses(updateRecord));
+        string? versionField = self.versionField;
+        if versionField is () {
+            return sql:queryConcat(`UPDATE `, stringToParameterizedQuery(self.tableName), stringToParameterizedQuery(" " + self.entityName), ` SET `, check self.getSetClauses(updateRecord));
+        }
+
+        // the version is not set by the update, but is incremented
+        record {} values = updateRecord.clone();
+        _ = values.removeIfHasKey(versionField);
+        string versionColumn = self.entityName + "." + self.getColumnFromField(versionField);
+        sql:ParameterizedQuery setClauses = values.length() > 0 ? sql:queryConcat(check self.getSetClauses(values), `, `) : ` `;
+        return sql:queryConcat(`UPDATE `, stringToParameterizedQuery(self.tableName), stringToParameterizedQuery(" " + self.entityName), ` SET `,
+            setClauses, stringToParameterizedQuery(string `${versionColumn} = ${versionColumn} + 1`));
+    }
+
+    private isolated function getVersionCondition(record {} updateRecord) returns sql:ParameterizedQuery {
+        string? versionField = self.versionField;
+        if versionField is () || !updateRecord.hasKey(versionField) {
+            return ``;
+        }
+        return sql:queryConcat(stringToParameterizedQuery(string ` AND ${self.entityName}.${self.getColumnFromField(versionField)} = `),
+            `${<sql:Value>updateRecord[versionField]}`);
     }
 
     private isolated function getDeleteQuery() returns sql:ParameterizedQuery {
@@ -444,3 +1544,46 @@ public isolated client class SQLClient {
             select key;
     }
 }
+
+isolated function newWriteCoalescer(int maxRows, decimal maxDelay) returns handle = @java:Constructor {
+    'class: "io.ballerina.stdlib.persist.datastore.WriteCoalescer"
+} external;
+
+isolated function coalesceInsert(handle writeCoalescer, SQLClient sqlClient, record {} insertRecord) returns sql:ExecutionResult|Error = @java:Method {
+    'class: "io.ballerina.stdlib.persist.datastore.WriteCoalescer",
+    name: "insert"
+} external;
+
+isolated function newWriteQueue(int capacity) returns handle = @java:Constructor {
+    'class: "io.ballerina.stdlib.persist.datastore.WriteQueue"
+} external;
+
+isolated function putWriteQueue(handle writeQueue, anydata & readonly write) returns boolean = @java:Method {
+    'class: "io.ballerina.stdlib.persist.datastore.WriteQueue",
+    name: "put"
+} external;
+
+isolated function takeWriteQueue(handle writeQueue, int maxWrites) returns anydata[]? = @java:Method {
+    'class: "io.ballerina.stdlib.persist.datastore.WriteQueue",
+    name: "take"
+} external;
+
+isolated function completeWriteQueue(handle writeQueue, int count, int failedCount) = @java:Method {
+    'class: "io.ballerina.stdlib.persist.datastore.WriteQueue",
+    name: "done"
+} external;
+
+isolated function flushWriteQueue(handle writeQueue) = @java:Method {
+    'class: "io.ballerina.stdlib.persist.datastore.WriteQueue",
+    name: "flush"
+} external;
+
+isolated function closeWriteQueue(handle writeQueue) = @java:Method {
+    'class: "io.ballerina.stdlib.persist.datastore.WriteQueue",
+    name: "close"
+} external;
+
+isolated function getWriteQueueStats(handle writeQueue) returns AsyncWriteStats = @java:Method {
+    'class: "io.ballerina.stdlib.persist.datastore.WriteQueue",
+    name: "getStats"
+} external;
@@ -25,6 +25,12 @@ public class PersistSQLStream {
     private typedesc<record {}>[] typeDescriptions;
     private SQLClient? persistClient;
     private typedesc<record {}> targetType;
+    private decimal? startTime;
+    private int spanId = NO_SPAN;
+    private int querySpanId = NO_SPAN;
+    private boolean spanStarted = false;
+    private int rows = 0;
+    private final RelationQueryCounter relationQueryCounter;
 
     public isolated function init(stream<record {}, sql:Error?>? anydataStream, typedesc<record {}> targetType, string[] fields, string[] include, any[] typeDescriptions, SQLClient persistClient, Error? err = ()) {
         self.anydataStream = anydataStream;
@@ -39,25 +45,35 @@ public class PersistSQLStream {
         self.typeDescriptions = typeDescriptionsArray;
 
         self.persistClient = persistClient;
+        self.relationQueryCounter = new (persistClient.getEntityName(), READ_ALL_OPERATION, include);
         self.err = err;
+        self.startTime = startSlowOperationTimer();
     }
 
     public isolated function next() returns record {|record {} value;|}|Error? {
+        if !self.spanStarted {
+            self.startSpans();
+        }
+
         if self.err is Error {
             return <Error>self.err;
         } else if self.anydataStream is stream<record {}, sql:Error?> {
             var anydataStream = <stream<record {}, sql:Error?>>self.anydataStream;
             var streamValue = anydataStream.next();
             if streamValue is () {
+                self.completeRead();
                 return streamValue;
             } else if (streamValue is sql:Error) {
+                self.completeRead(streamValue);
                 return <Error>error(streamValue.message());
             } else {
                 record {}|error value = streamValue.value;
                 if value is error {
                     return <Error>error(value.message());
                 }
-                check (<SQLClient>self.persistClient).getManyRelations(value, self.fields, self.include, self.typeDescriptions);
+                SQLClient persistClient = <SQLClient>self.persistClient;
+                check persistClient.getCountedManyRelations(value, self.fields, self.include, self.typeDescriptions,
+                    self.spanId, self.relationQueryCounter);
 
                 string[] keyFields = (<SQLClient>self.persistClient).getKeyFields();
                 foreach string keyField in keyFields {
@@ -66,7 +82,10 @@ public class PersistSQLStream {
                     }
                 }
 
+                int startTime = startTimer();
                 record {|record {} value;|} nextRecord = {value: checkpanic value.cloneWithType(self.targetType)};
+                recordOperation((<SQLClient>self.persistClient).getEntityName(), CONVERSION_OPERATION, startTime, 1);
+                self.rows += 1;
                 return nextRecord;
             }
         } else {
@@ -75,8 +94,41 @@ public class PersistSQLStream {
     }
 
     public isolated function close() returns Error? {
+        self.completeRead();
         check closeSQLEntityStream(self.anydataStream);
     }
+
+    // the spans are started by the strand, which consumes the stream, so that they are nested within its active span
+    private isolated function startSpans() {
+        self.spanStarted = true;
+        SQLClient? persistClient = self.persistClient;
+        if persistClient is () {
+            return;
+        }
+
+        self.spanId = startOperationSpan(READ_ALL_OPERATION, persistClient.getEntityName(), self.fields, self.include);
+        if self.spanId != NO_SPAN {
+            sql:ParameterizedQuery|Error query = persistClient.getReadQuery(self.fields, self.include);
+            if query is sql:ParameterizedQuery {
+                self.querySpanId = startQuerySpan(self.spanId, persistClient.getEntityName(), query);
+            }
+        }
+    }
+
+    private isolated function completeRead(error? err = ()) {
+        SQLClient? persistClient = self.persistClient;
+        if persistClient is SQLClient {
+            persistClient.logSlowReadQuery(self.startTime, READ_ALL_OPERATION, (), self.fields, self.include, self.rows,
+                self.relationQueryCounter.getCount());
+        }
+        finishSpan(self.querySpanId, self.rows, err);
+        finishSpan(self.spanId, self.rows, err);
+
+        // a stream is completed only once, even if it is closed after being fully consumed
+        self.startTime = ();
+        self.querySpanId = NO_SPAN;
+        self.spanId = NO_SPAN;
+    }
 }
 
 public class PersistInMemoryStream {
@@ -129,7 +181,9 @@ public class PersistInMemoryStream {
                     }
                 }
 
+                int startTime = startTimer();
                 record {|record {} value;|} nextRecord = {value: checkpanic value.cloneWithType(self.targetType)};
+                recordOperation((<InMemoryClient>self.persistClient).getEntityName(), CONVERSION_OPERATION, startTime, 1);
                 return nextRecord;
             }
         } else {
@@ -141,3 +195,30 @@ public class PersistInMemoryStream {
         check closeEntityStream(self.anydataStream);
     }
 }
+
+# A stream implementation, which returns the rows buffered from an SQL result stream
+# before the rows remaining in the stream.
+class BufferedStream {
+
+    private final record {}[] rows;
+    private final stream<record {}, sql:Error?> remaining;
+    private int index = 0;
+
+    isolated function init(record {}[] rows, stream<record {}, sql:Error?> remaining) {
+        self.rows = rows;
+        self.remaining = remaining;
+    }
+
+    public isolated function next() returns record {|record {} value;|}|sql:Error? {
+        if self.index < self.rows.length() {
+            record {} value = self.rows[self.index];
+            self.index += 1;
+            return {value};
+        }
+        return self.remaining.next();
+    }
+
+    public isolated function close() returns sql:Error? {
+        return self.remaining.close();
+    }
+}
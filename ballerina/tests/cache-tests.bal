@@ -0,0 +1,94 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/test;
+
+@test:Config {
+    groups: ["cache"]
+}
+function entityCacheReadThroughTest() {
+    EntityCache cache = new ({capacity: 10});
+    string projection = getProjectionKey(["deptNo", "deptName"]);
+
+    test:assertEquals(cache.get("[\"dept-1\"]", projection), ());
+    cache.put("[\"dept-1\"]", projection, department1.cloneReadOnly(), cache.startLoad());
+    test:assertEquals(cache.get("[\"dept-1\"]", projection), department1);
+    test:assertEquals(cache.get("[\"dept-1\"]", getProjectionKey(["deptName"])), ());
+
+    CacheStats stats = cache.getStats();
+    test:assertEquals(stats.hits, 1);
+    test:assertEquals(stats.misses, 2);
+    test:assertEquals(stats.size, 1);
+}
+
+@test:Config {
+    groups: ["cache"]
+}
+function entityCacheInvalidationTest() {
+    EntityCache cache = new ({capacity: 10});
+    string projection = getProjectionKey(["deptNo", "deptName"]);
+
+    cache.put("[\"dept-1\"]", projection, department1.cloneReadOnly(), cache.startLoad());
+    cache.invalidate("[\"dept-1\"]");
+    test:assertEquals(cache.get("[\"dept-1\"]", projection), ());
+
+    // a record loaded while its key is being invalidated should be discarded
+    int ticket = cache.startLoad();
+    cache.invalidate("[\"dept-1\"]");
+    cache.put("[\"dept-1\"]", projection, department1.cloneReadOnly(), ticket);
+    test:assertEquals(cache.get("[\"dept-1\"]", projection), ());
+
+    // while the invalidations of the other keys should not affect it
+    ticket = cache.startLoad();
+    cache.invalidate("[\"dept-2\"]");
+    cache.put("[\"dept-1\"]", projection, department1.cloneReadOnly(), ticket);
+    test:assertEquals(cache.get("[\"dept-1\"]", projection), department1);
+
+    ticket = cache.startLoad();
+    cache.invalidateAll();
+    cache.put("[\"dept-2\"]", projection, department2.cloneReadOnly(), ticket);
+    test:assertEquals(cache.get("[\"dept-2\"]", projection), ());
+}
+
+@test:Config {
+    groups: ["cache"]
+}
+function entityCacheEvictionTest() {
+    EntityCache cache = new ({capacity: 5});
+    string projection = getProjectionKey(["deptNo", "deptName"]);
+
+    foreach int i in 0 ..< 20 {
+        cache.put(string `["dept-${i}"]`, projection, {deptNo: string `dept-${i}`, deptName: "Finance"}, cache.startLoad());
+    }
+
+    CacheStats stats = cache.getStats();
+    test:assertTrue(stats.size <= 5);
+    test:assertEquals(stats.evictions, 15);
+}
+
+@test:Config {
+    groups: ["cache"]
+}
+function entityCacheExpiryTest() {
+    EntityCache cache = new ({capacity: 10, maxAge: 0.1});
+    string projection = getProjectionKey(["deptNo", "deptName"]);
+
+    cache.put("[\"dept-1\"]", projection, department1.cloneReadOnly(), cache.startLoad());
+    runtime:sleep(0.2);
+    test:assertEquals(cache.get("[\"dept-1\"]", projection), ());
+    test:assertEquals(cache.getStats().expirations, 1);
+}
@@ -225,3 +225,24 @@ function inMemoryAllTypesDeleteTest() returns error? {
     test:assertEquals(allTypesCollection, [allTypes3Expected, allTypes1UpdatedExpected]);
     check testEntitiesClient.close();
 }
+
+@test:Config {
+    groups: ["all-types", "in-memory"],
+    dependsOn: [inMemoryAllTypesDeleteTest]
+}
+function inMemoryAllTypesPatchTest() returns error? {
+    InMemoryTestEntitiesClient testEntitiesClient = check new ();
+
+    check testEntitiesClient->/alltypes/[allTypes1.id].patch({stringType: "patched", intTypeOptional: ()});
+    AllTypes allTypesRetrieved = check testEntitiesClient->/alltypes/[allTypes1.id].get();
+    test:assertEquals(allTypesRetrieved, {...allTypes1UpdatedExpected, stringType: "patched", intTypeOptional: ()});
+
+    // patching the same values leaves the record as it is
+    check testEntitiesClient->/alltypes/[allTypes1.id].patch({stringType: "patched"});
+    allTypesRetrieved = check testEntitiesClient->/alltypes/[allTypes1.id].get();
+    test:assertEquals(allTypesRetrieved, {...allTypes1UpdatedExpected, stringType: "patched", intTypeOptional: ()});
+
+    Error? result = testEntitiesClient->/alltypes/[4].patch({stringType: "patched"});
+    test:assertTrue(result is NotFoundError);
+    check testEntitiesClient.close();
+}
@@ -0,0 +1,225 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/io;
+import ballerina/jballerina.java;
+import ballerina/random;
+import ballerina/test;
+import ballerina/time;
+
+// The benchmarks are run only if enabled, e.g., with `bal test --groups benchmark -- -CrunBenchmarks=true`
+configurable boolean runBenchmarks = false;
+configurable int[] benchmarkTableSizes = [1000, 100000, 1000000];
+configurable int[] benchmarkConcurrency = [1, 4, 16, 64];
+configurable decimal benchmarkDuration = 5;
+
+const BENCHMARK_SEED_BATCH_SIZE = 10000;
+
+type BenchmarkOperation isolated function (InMemoryRainierClient rainierClient, int tableSize, int strand, int iteration) returns error?;
+
+type BenchmarkResult record {|
+    int operations;
+    int allocatedBytes;
+|};
+
+@test:Config {
+    groups: ["benchmark", "in-memory"]
+}
+function inMemoryScalingBenchmark() returns error? {
+    if !runBenchmarks {
+        return;
+    }
+
+    InMemoryRainierClient rainierClient = check new ();
+    io:println(string `${"operation".padEnd(16)}${"rows".padStart(10)}${"strands".padStart(10)}${"ops/sec".padStart(12)}${"bytes/op".padStart(14)}`);
+
+    int seeded = 0;
+    foreach int tableSize in benchmarkTableSizes.sort() {
+        check seedBenchmarkEmployees(rainierClient, seeded, tableSize);
+        seeded = tableSize;
+
+        foreach int concurrency in benchmarkConcurrency {
+            check runInMemoryBenchmark("get by key", rainierClient, tableSize, concurrency, benchmarkGetByKey);
+            check runInMemoryBenchmark("get all", rainierClient, tableSize, concurrency, benchmarkGetAll);
+            check runInMemoryBenchmark("update", rainierClient, tableSize, concurrency, benchmarkUpdate);
+            check runInMemoryBenchmark("insert/delete", rainierClient, tableSize, concurrency, benchmarkInsertAndDelete);
+        }
+    }
+
+    foreach int i in 0 ..< seeded {
+        _ = check rainierClient->/employees/[getBenchmarkEmpNo(i)].delete();
+    }
+    check rainierClient.close();
+}
+
+// compares the writes to an `InMemoryTable`, which do not contend for a table-wide lock, with the writes of the
+// generated client above
+@test:Config {
+    groups: ["benchmark", "in-memory"]
+}
+function inMemoryTableBenchmark() returns error? {
+    if !runBenchmarks {
+        return;
+    }
+
+    InMemoryRainierClient rainierClient = check new ();
+    final InMemoryTable employees = new ("Employee", Employee, ["empNo"]);
+    io:println(string `${"operation".padEnd(16)}${"rows".padStart(10)}${"strands".padStart(10)}${"ops/sec".padStart(12)}${"bytes/op".padStart(14)}`);
+
+    int seeded = 0;
+    foreach int tableSize in benchmarkTableSizes.sort() {
+        foreach int i in seeded ..< tableSize {
+            check employees.insert(getBenchmarkEmployee(getBenchmarkEmpNo(i)));
+        }
+        seeded = tableSize;
+
+        foreach int concurrency in benchmarkConcurrency {
+            check runInMemoryBenchmark("table get", rainierClient, tableSize, concurrency, isolated function(InMemoryRainierClient _, int size, int strand, int iteration) returns error? {
+                _ = employees.get(getBenchmarkEmpNo(check random:createIntInRange(0, size)));
+            });
+            check runInMemoryBenchmark("table update", rainierClient, tableSize, concurrency, isolated function(InMemoryRainierClient _, int size, int strand, int iteration) returns error? {
+                _ = check employees.update(getBenchmarkEmpNo(check random:createIntInRange(0, size)), {
+                    firstName: string `Updated ${strand}-${iteration}`
+                });
+            });
+            check runInMemoryBenchmark("table ins/del", rainierClient, tableSize, concurrency, isolated function(InMemoryRainierClient _, int size, int strand, int iteration) returns error? {
+                string empNo = string `benchmark-${strand}-${iteration}`;
+                check employees.insert(getBenchmarkEmployee(empNo));
+                _ = employees.remove(empNo);
+            });
+        }
+    }
+    check rainierClient.close();
+}
+
+function runInMemoryBenchmark(string name, InMemoryRainierClient rainierClient, int tableSize, int concurrency, BenchmarkOperation operation) returns error? {
+    int allocatedBytes = getAllocatedBytes();
+    decimal startTime = time:monotonicNow();
+    decimal deadline = startTime + benchmarkDuration;
+
+    future<int|error>[] strands = [];
+    foreach int strand in 0 ..< concurrency {
+        strands.push(start runBenchmarkStrand(rainierClient, tableSize, strand, deadline, operation));
+    }
+
+    int operations = 0;
+    foreach future<int|error> strand in strands {
+        operations += check wait strand;
+    }
+
+    decimal elapsed = time:monotonicNow() - startTime;
+    int bytesPerOperation = operations == 0 ? 0 : (getAllocatedBytes() - allocatedBytes) / operations;
+    decimal throughput = (<decimal>operations / elapsed).round(1);
+    io:println(string `${name.padEnd(16)}${tableSize.toString().padStart(10)}${concurrency.toString().padStart(10)}${
+        throughput.toString().padStart(12)}${bytesPerOperation.toString().padStart(14)}`);
+}
+
+isolated function runBenchmarkStrand(InMemoryRainierClient rainierClient, int tableSize, int strand, decimal deadline, BenchmarkOperation operation) returns int|error {
+    int iteration = 0;
+    while time:monotonicNow() < deadline {
+        check operation(rainierClient, tableSize, strand, iteration);
+        iteration += 1;
+    }
+    return iteration;
+}
+
+isolated function benchmarkGetByKey(InMemoryRainierClient rainierClient, int tableSize, int strand, int iteration) returns error? {
+    Employee _ = check rainierClient->/employees/[getBenchmarkEmpNo(check random:createIntInRange(0, tableSize))].get();
+}
+
+isolated function benchmarkGetAll(InMemoryRainierClient rainierClient, int tableSize, int strand, int iteration) returns error? {
+    stream<Employee, Error?> employees = rainierClient->/employees.get();
+    record {|Employee value;|}? next = check employees.next();
+    while next !is () {
+        next = check employees.next();
+    }
+}
+
+isolated function benchmarkUpdate(InMemoryRainierClient rainierClient, int tableSize, int strand, int iteration) returns error? {
+    _ = check rainierClient->/employees/[getBenchmarkEmpNo(check random:createIntInRange(0, tableSize))].put({
+        firstName: string `Updated ${strand}-${iteration}`
+    });
+}
+
+isolated function benchmarkInsertAndDelete(InMemoryRainierClient rainierClient, int tableSize, int strand, int iteration) returns error? {
+    string empNo = string `benchmark-${strand}-${iteration}`;
+    _ = check rainierClient->/employees.post([getBenchmarkEmployee(empNo)]);
+    _ = check rainierClient->/employees/[empNo].delete();
+}
+
+function seedBenchmarkEmployees(InMemoryRainierClient rainierClient, int fromIndex, int toIndex) returns error? {
+    int offset = fromIndex;
+    while offset < toIndex {
+        int batchEnd = int:min(offset + BENCHMARK_SEED_BATCH_SIZE, toIndex);
+        _ = check rainierClient->/employees.post(from int i in offset ..< batchEnd
+            select getBenchmarkEmployee(getBenchmarkEmpNo(i)));
+        offset = batchEnd;
+    }
+}
+
+isolated function getBenchmarkEmpNo(int index) returns string {
+    return string `benchmark-employee-${index}`;
+}
+
+isolated function getBenchmarkEmployee(string empNo) returns Employee {
+    return {
+        empNo,
+        firstName: "Tom",
+        lastName: "Scott",
+        birthDate: {year: 1992, month: 11, day: 13},
+        gender: MALE,
+        hireDate: {year: 2022, month: 8, day: 3},
+        departmentDeptNo: "benchmark-department",
+        workspaceWorkspaceId: "benchmark-workspace"
+    };
+}
+
+// the total number of bytes allocated by the live threads of the JVM
+function getAllocatedBytes() returns int {
+    handle threadMXBean = getThreadMXBean();
+    handle allocatedBytes = getThreadAllocatedBytes(threadMXBean, getAllThreadIds(threadMXBean));
+    int total = 0;
+    foreach int i in 0 ..< getArrayLength(allocatedBytes) {
+        total += getLongArrayElement(allocatedBytes, i);
+    }
+    return total;
+}
+
+function getThreadMXBean() returns handle = @java:Method {
+    'class: "java.lang.management.ManagementFactory"
+} external;
+
+function getAllThreadIds(handle threadMXBean) returns handle = @java:Method {
+    'class: "java.lang.management.ThreadMXBean"
+} external;
+
+function getThreadAllocatedBytes(handle threadMXBean, handle threadIds) returns handle = @java:Method {
+    'class: "com.sun.management.ThreadMXBean",
+    paramTypes: [{'class: "long", dimensions: 1}]
+} external;
+
+function getArrayLength(handle array) returns int = @java:Method {
+    'class: "java.lang.reflect.Array",
+    name: "getLength",
+    paramTypes: ["java.lang.Object"]
+} external;
+
+function getLongArrayElement(handle array, int index) returns int = @java:Method {
+    'class: "java.lang.reflect.Array",
+    name: "getLong",
+    paramTypes: ["java.lang.Object", "int"]
+} external;
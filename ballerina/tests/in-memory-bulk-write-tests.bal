@@ -0,0 +1,112 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+final TableMetadata & readonly bulkWriteBuildingMetadata = {
+    entityName: "Building",
+    keyFields: ["buildingCode"],
+    query: queryBuildings,
+    queryOne: queryOneBuildings,
+    updateWhere: updateBuildingsWhere,
+    deleteWhere: deleteBuildingsWhere
+};
+
+@test:Config {
+    groups: ["batch-write", "in-memory"]
+}
+function inMemoryUpdateAndDeleteWhereTest() returns error? {
+    InMemoryRainierClient rainierClient = check new ();
+    _ = check rainierClient->/buildings.post([batchBuilding1, batchBuilding2, batchBuilding3]);
+    InMemoryClient inMemoryClient = check new (bulkWriteBuildingMetadata);
+
+    int updated = check inMemoryClient.runUpdateWhereQuery(isolated function(record {} building) returns boolean {
+        return building["buildingCode"] is string && (<string>building["buildingCode"]).startsWith("building-batch-")
+            && building["type"] == "owned";
+    }, {country: "LK"});
+    test:assertEquals(updated, 2);
+
+    Building buildingRetrieved = check rainierClient->/buildings/[batchBuilding1.buildingCode].get();
+    test:assertEquals(buildingRetrieved, {...batchBuilding1, country: "LK"});
+    buildingRetrieved = check rainierClient->/buildings/[batchBuilding2.buildingCode].get();
+    test:assertEquals(buildingRetrieved, batchBuilding2);
+    buildingRetrieved = check rainierClient->/buildings/[batchBuilding3.buildingCode].get();
+    test:assertEquals(buildingRetrieved, {...batchBuilding3, country: "LK"});
+
+    int deleted = check inMemoryClient.runDeleteWhereQuery(isolated function(record {} building) returns boolean {
+        return building["buildingCode"] is string && (<string>building["buildingCode"]).startsWith("building-batch-");
+    });
+    test:assertEquals(deleted, 3);
+
+    Building|Error deletedBuilding = rainierClient->/buildings/[batchBuilding1.buildingCode].get();
+    test:assertTrue(deletedBuilding is NotFoundError);
+
+    check rainierClient.close();
+}
+
+@test:Config {
+    groups: ["batch-write", "in-memory"]
+}
+function inMemoryDeleteWhereTestNegative() returns error? {
+    InMemoryClient inMemoryClient = check new ({
+        entityName: "Building",
+        keyFields: ["buildingCode"],
+        query: queryBuildings,
+        queryOne: queryOneBuildings
+    });
+
+    int|Error deleted = inMemoryClient.runDeleteWhereQuery(isolated function(record {} building) returns boolean {
+        return true;
+    });
+    if deleted is Error {
+        test:assertEquals(deleted.message(), "Deletes by filter are not supported by the 'Building' table.");
+    } else {
+        test:assertFail("Error expected.");
+    }
+}
+
+@test:Config {
+    groups: ["batch-write", "in-memory"]
+}
+function inMemoryUpdateWhereMapFilterTest() returns error? {
+    InMemoryRainierClient rainierClient = check new ();
+    _ = check rainierClient->/buildings.post([batchBuilding1, batchBuilding2, batchBuilding3]);
+    InMemoryClient inMemoryClient = check new (bulkWriteBuildingMetadata);
+
+    int updated = check inMemoryClient.runUpdateWhereQuery({'type: "owned", country: "Sri Lanka"}, {country: "LK"});
+    test:assertEquals(updated, 2);
+    Building buildingRetrieved = check rainierClient->/buildings/[batchBuilding3.buildingCode].get();
+    test:assertEquals(buildingRetrieved, {...batchBuilding3, country: "LK"});
+
+    // the invalid updates are rejected without modifying the table
+    int|Error result = inMemoryClient.runUpdateWhereQuery({}, {buildingCode: "building-batch-4"});
+    test:assertTrue(result is Error);
+    result = inMemoryClient.runUpdateWhereQuery({}, {invalidField: "LK"});
+    test:assertTrue(result is Error);
+    result = inMemoryClient.runUpdateWhereQuery({}, {country: 1});
+    test:assertTrue(result is Error);
+    result = inMemoryClient.runUpdateWhereQuery(`Building.type = ${"owned"}`, {country: "LK"});
+    test:assertTrue(result is Error);
+    buildingRetrieved = check rainierClient->/buildings/[batchBuilding2.buildingCode].get();
+    test:assertEquals(buildingRetrieved, batchBuilding2);
+
+    int deleted = check inMemoryClient.runDeleteWhereQuery({country: "LK"});
+    test:assertEquals(deleted, 2);
+    deleted = check inMemoryClient.runDeleteWhereQuery({buildingCode: batchBuilding2.buildingCode});
+    test:assertEquals(deleted, 1);
+
+    check rainierClient.close();
+}
@@ -0,0 +1,147 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+@test:Config {
+    groups: ["in-memory-table", "in-memory"]
+}
+function inMemoryTableCrudTest() returns error? {
+    InMemoryTable buildings = new ("Building", Building, ["buildingCode"]);
+
+    check buildings.insert(batchBuilding1);
+    check buildings.insert(batchBuilding2);
+    Error? result = buildings.insert(batchBuilding1);
+    if result is AlreadyExistsError {
+        test:assertEquals(result.message(), "A record with the key 'building-batch-1' already exists for the entity 'Building'.");
+    } else {
+        test:assertFail("AlreadyExistsError expected.");
+    }
+    test:assertEquals(buildings.length(), 2);
+
+    record {} & readonly? building = buildings.get(batchBuilding1.buildingCode);
+    test:assertEquals(building, batchBuilding1);
+    test:assertEquals(buildings.get("invalid-building-code"), ());
+
+    // the stored records are not affected by modifications to the inserted record
+    Building insertedBuilding = {...batchBuilding3};
+    check buildings.insert(insertedBuilding);
+    insertedBuilding.city = "Jaffna";
+    test:assertEquals(buildings.get(batchBuilding3.buildingCode), batchBuilding3);
+
+    record {} updatedBuilding = check buildings.update(batchBuilding1.buildingCode, {city: "Negombo"});
+    test:assertEquals(updatedBuilding, {...batchBuilding1, city: "Negombo"});
+    test:assertEquals(buildings.get(batchBuilding1.buildingCode), {...batchBuilding1, city: "Negombo"});
+
+    record {}|Error updateResult = buildings.update("invalid-building-code", {city: "Negombo"});
+    if updateResult is NotFoundError {
+        test:assertEquals(updateResult.message(), "A record with the key 'invalid-building-code' does not exist for the entity 'Building'.");
+    } else {
+        test:assertFail("NotFoundError expected.");
+    }
+    updateResult = buildings.update(batchBuilding1.buildingCode, {city: 1});
+    test:assertTrue(updateResult is Error);
+
+    // the key fields cannot be updated, as the record is stored under its key
+    updateResult = buildings.update(batchBuilding1.buildingCode, {buildingCode: "building-table-renamed", city: "Kegalle"});
+    if updateResult is Error {
+        test:assertEquals(updateResult.message(), "The key field 'buildingCode' of the 'Building' entity cannot be updated.");
+    } else {
+        test:assertFail("Error expected.");
+    }
+    test:assertEquals(buildings.get(batchBuilding1.buildingCode), {...batchBuilding1, city: "Negombo"});
+    test:assertEquals(buildings.get("building-table-renamed"), ());
+
+    check buildings.put({...batchBuilding2, city: "Matale"});
+    test:assertEquals(buildings.get(batchBuilding2.buildingCode), {...batchBuilding2, city: "Matale"});
+
+    test:assertEquals(buildings.remove(batchBuilding2.buildingCode), {...batchBuilding2, city: "Matale"});
+    test:assertEquals(buildings.remove(batchBuilding2.buildingCode), ());
+    test:assertEquals(buildings.getAll().length(), 2);
+}
+
+@test:Config {
+    groups: ["in-memory-table", "in-memory"]
+}
+function inMemoryTableCompositeKeyTest() returns error? {
+    InMemoryTable orderItems = new ("OrderItem", OrderItem, ["orderId", "itemId"]);
+    check orderItems.insert(orderItem1);
+
+    test:assertEquals(orderItems.get({itemId: orderItem1.itemId, orderId: orderItem1.orderId}), orderItem1);
+    test:assertEquals(orderItems.get([orderItem1.orderId, orderItem1.itemId]), orderItem1);
+    test:assertEquals(orderItems.get([orderItem1.itemId, orderItem1.orderId]), ());
+
+    record {} orderItem = check orderItems.update({orderId: orderItem1.orderId, itemId: orderItem1.itemId}, {quantity: 1});
+    test:assertEquals(orderItem, {...orderItem1, quantity: 1});
+}
+
+@test:Config {
+    groups: ["in-memory-table", "in-memory"]
+}
+function inMemoryTableVersionTest() returns error? {
+    InMemoryTable documents = new ("VersionedDocument", VersionedDocument, ["id"], "version");
+    check documents.insert({id: "document-1", title: "Draft", version: 1});
+
+    record {} updatedDocument = check documents.update("document-1", {title: "Review"});
+    test:assertEquals(updatedDocument, {id: "document-1", title: "Review", version: 2});
+    updatedDocument = check documents.update("document-1", {title: "Final", version: 2});
+    test:assertEquals(updatedDocument, {id: "document-1", title: "Final", version: 3});
+
+    record {}|Error result = documents.update("document-1", {title: "Stale", version: 2});
+    test:assertTrue(result is VersionConflictError);
+    test:assertEquals(documents.get("document-1"), {id: "document-1", title: "Final", version: 3});
+}
+
+@test:Config {
+    groups: ["in-memory-table", "in-memory"]
+}
+function inMemoryTableConcurrentWriteTest() returns error? {
+    final InMemoryTable buildings = new ("Building", Building, ["buildingCode"]);
+    check buildings.insert(batchBuilding1);
+
+    future<int|error>[] writers = [];
+    foreach int writer in 0 ..< 8 {
+        writers.push(start writeInMemoryTable(buildings, writer));
+    }
+
+    int duplicates = 0;
+    foreach future<int|error> writer in writers {
+        duplicates += check wait writer;
+    }
+
+    // each key is inserted by exactly one of the writers, and none of the updates is lost
+    test:assertEquals(duplicates, 7 * 100);
+    test:assertEquals(buildings.length(), 101);
+    record {} & readonly? building = buildings.get(batchBuilding1.buildingCode);
+    test:assertEquals(building?.city, "Galle");
+    test:assertEquals(building?.postalCode, "80000");
+}
+
+function writeInMemoryTable(InMemoryTable buildings, int writer) returns int|error {
+    int duplicates = 0;
+    foreach int i in 0 ..< 100 {
+        Error? result = buildings.insert({...batchBuilding2, buildingCode: string `building-table-${i}`});
+        if result is AlreadyExistsError {
+            duplicates += 1;
+        } else {
+            check result;
+        }
+
+        // the concurrent updates of different fields of the same key are merged, as each update is atomic
+        _ = check buildings.update(batchBuilding1.buildingCode, writer % 2 == 0 ? {city: "Galle"} : {postalCode: "80000"});
+    }
+    return duplicates;
+}
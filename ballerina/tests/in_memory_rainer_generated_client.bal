@@ -37,14 +37,18 @@ public isolated client class InMemoryRainierClient {
 
         final map<TableMetadata> metadata = {
             [BUILDING] : {
+                entityName: "Building",
                 keyFields: ["buildingCode"],
                 query: queryBuildings,
                 queryOne: queryOneBuildings,
                 associationsMethods: {
                     "workspaces": queryBuildingsWorkspaces
-                }
+                },
+                updateWhere: updateBuildingsWhere,
+                deleteWhere: deleteBuildingsWhere
             },
             [DEPARTMENT] : {
+                entityName: "Department",
                 keyFields: ["deptNo"],
                 query: queryDepartments,
                 queryOne: queryOneDepartments,
@@ -53,6 +57,7 @@ public isolated client class InMemoryRainierClient {
                 }
             },
             [WORKSPACE] : {
+                entityName: "Workspace",
                 keyFields: ["workspaceId"],
                 query: queryWorkspaces,
                 queryOne: queryOneWorkspaces,
@@ -61,11 +66,13 @@ public isolated client class InMemoryRainierClient {
                 }
             },
             [EMPLOYEE] : {
+                entityName: "Employee",
                 keyFields: ["empNo"],
                 query: queryEmployees,
                 queryOne: queryOneEmployees
             },
             [ORDER_ITEM] : {
+                entityName: "OrderItem",
                 keyFields: ["orderId", "itemId"],
                 query: queryOrderItems,
                 queryOne: queryOneOrderItems
@@ -91,6 +98,11 @@ public isolated client class InMemoryRainierClient {
         name: "queryOne"
     } external;
 
+    isolated resource function get buildings/batch(string[] buildingCodes, BuildingTargetType targetType = <>) returns (targetType?)[]|Error = @java:Method {
+        'class: "io.ballerina.stdlib.persist.datastore.InMemoryProcessor",
+        name: "queryMany"
+    } external;
+
     isolated resource function post buildings(BuildingInsert[] data) returns string[]|Error {
         string[] keys = [];
         foreach BuildingInsert value in data.clone() {
@@ -105,6 +117,16 @@ public isolated client class InMemoryRainierClient {
         return keys.clone();
     }
 
+    isolated resource function put buildings(BuildingInsert[] data) returns string[]|Error {
+        lock {
+            foreach BuildingInsert value in data.clone() {
+                buildingsTable.put(value);
+            }
+        }
+        return from BuildingInsert value in data
+            select value.buildingCode;
+    }
+
     isolated resource function put buildings/[string buildingCode](BuildingUpdate value) returns Building|Error {
         lock {
             if !buildingsTable.hasKey(buildingCode) {
@@ -291,6 +313,11 @@ public isolated client class InMemoryRainierClient {
         name: "queryOne"
     } external;
 
+    isolated resource function get orderitems/batch([string, string][] keys, OrderItemTargetType targetType = <>) returns (targetType?)[]|Error = @java:Method {
+        'class: "io.ballerina.stdlib.persist.datastore.InMemoryProcessor",
+        name: "queryMany"
+    } external;
+
     isolated resource function post orderitems(OrderItemInsert[] data) returns [string, string][]|Error {
         [string, string][] keys = [];
         foreach OrderItemInsert value in data.clone() {
@@ -305,6 +332,16 @@ public isolated client class InMemoryRainierClient {
         return keys.clone();
     }
 
+    isolated resource function put orderitems(OrderItemInsert[] data) returns [string, string][]|Error {
+        lock {
+            foreach OrderItemInsert value in data.clone() {
+                orderItemsTable.put(value);
+            }
+        }
+        return from OrderItemInsert value in data
+            select [value.orderId, value.itemId];
+    }
+
     isolated resource function put orderitems/[string orderId]/[string itemId](OrderItemUpdate value) returns OrderItem|Error {
         lock {
             if !orderItemsTable.hasKey([orderId, itemId]) {
@@ -417,6 +454,40 @@ isolated function queryOneBuildings(anydata key) returns record {}|NotFoundError
     return <NotFoundError>error("Invalid key: " + key.toString());
 }
 
+isolated function updateBuildingsWhere(FilterPredicate filter, record {} value) returns int|Error {
+    // the values are validated before the table is locked, as a key field, an unknown field, or a value of another
+    // type cannot be assigned to the records of the table
+    BuildingUpdate|error update = value.cloneWithType();
+    if update is error {
+        return <Error>error(update.message());
+    }
+
+    lock {
+        int count = 0;
+        foreach Building building in buildingsTable {
+            if filter(building) {
+                foreach var [k, v] in update.clone().entries() {
+                    building[k] = v;
+                }
+                count += 1;
+            }
+        }
+        return count;
+    }
+}
+
+isolated function deleteBuildingsWhere(FilterPredicate filter) returns int|Error {
+    lock {
+        string[] keys = from Building building in buildingsTable
+            where filter(building)
+            select building.buildingCode;
+        foreach string key in keys {
+            _ = buildingsTable.remove(key);
+        }
+        return keys.length();
+    }
+}
+
 isolated function queryBuildingsWorkspaces(record {} value, string[] fields) returns record {}[] {
     table<Workspace> key(workspaceId) workspacesClonedTable;
     lock {
@@ -43,41 +43,49 @@ public isolated client class InMemoryTestEntitiesClient {
 
         final map<TableMetadata> metadata = {
             [ALL_TYPES] : {
+                entityName: "AllTypes",
                 keyFields: ["id"],
                 query: queryAllTypes,
                 queryOne: queryOneAllTypes
             },
             [STRING_ID_RECORD] : {
+                entityName: "StringIdRecord",
                 keyFields: ["id"],
                 query: queryStringIdRecord,
                 queryOne: queryOneStringIdRecord
             },
             [INT_ID_RECORD] : {
+                entityName: "IntIdRecord",
                 keyFields: ["id"],
                 query: queryIntIdRecord,
                 queryOne: queryOneIntIdRecord
             },
             [FLOAT_ID_RECORD] : {
+                entityName: "FloatIdRecord",
                 keyFields: ["id"],
                 query: queryFloatIdRecord,
                 queryOne: queryOneFloatIdRecord
             },
             [DECIMAL_ID_RECORD] : {
+                entityName: "DecimalIdRecord",
                 keyFields: ["id"],
                 query: queryDecimalIdRecord,
                 queryOne: queryOneDecimalIdRecord
             },
             [BOOLEAN_ID_RECORD] : {
+                entityName: "BooleanIdRecord",
                 keyFields: ["id"],
                 query: queryBooleanIdRecord,
                 queryOne: queryOneBooleanIdRecord
             },
             [COMPOSITE_ASSOCIATION_RECORD] : {
+                entityName: "CompositeAssociationRecord",
                 keyFields: ["id"],
                 query: queryCompositeAssociationRecords,
                 queryOne: queryOneCompositeAssociationRecords
             },
             [ALL_TYPES_ID_RECORD] : {
+                entityName: "AllTypesIdRecord",
                 keyFields: ["booleanType", "intType", "floatType", "decimalType", "stringType"],
                 query: queryAllTypesIdRecords,
                 queryOne: queryOneAllTypesIdRecords
@@ -135,6 +143,16 @@ public isolated client class InMemoryTestEntitiesClient {
         }
     }
 
+    isolated resource function patch alltypes/[int id](AllTypesUpdate value) returns Error? {
+        lock {
+            AllTypes? alltypes = alltypesTable[id];
+            if alltypes is () {
+                return <NotFoundError>error("Not found: " + id.toString());
+            }
+            _ = patchRecord(alltypes, value.clone());
+        }
+    }
+
     isolated resource function delete alltypes/[int id]() returns AllTypes|Error {
         lock {
             if !alltypesTable.hasKey(id) {
@@ -14,6 +14,7 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/sql;
 import ballerina/test;
 import ballerinax/mysql;
 import ballerinax/mysql.driver as _;
@@ -25,6 +26,7 @@ configurable string user = ?;
 configurable string database = ?;
 configurable string password = ?;
 configurable mysql:Options connectionOptions = {};
+configurable sql:ConnectionPool & readonly connectionPool = {};
 
 @test:BeforeSuite
 function truncate() returns error? {
@@ -0,0 +1,111 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/file;
+import ballerina/io;
+import ballerina/lang.runtime;
+import ballerina/test;
+
+@test:Config {
+    groups: ["cache"]
+}
+function localInvalidationBusTest() returns error? {
+    final EntityCache cache = new ({capacity: 10});
+    string projection = getProjectionKey(["deptNo", "deptName"]);
+    cache.put("[\"dept-1\"]", projection, department1.cloneReadOnly(), cache.startLoad());
+    cache.put("[\"dept-2\"]", projection, department2.cloneReadOnly(), cache.startLoad());
+
+    LocalInvalidationBus bus = new;
+    InvalidationListener invalidationListener = isolated function(CacheInvalidation & readonly invalidation) {
+        invalidateCaches(invalidation.keys, cache, (), ());
+    };
+    check bus.subscribe(invalidationListener);
+
+    check bus.publish({entity: "Department", keys: ["[\"dept-1\"]"]});
+    test:assertEquals(cache.get("[\"dept-1\"]", projection), ());
+    test:assertEquals(cache.get("[\"dept-2\"]", projection), department2);
+
+    // an unsubscribed listener is no longer notified
+    check bus.unsubscribe(invalidationListener);
+    check bus.publish({entity: "Department", keys: ["[\"dept-2\"]"]});
+    test:assertEquals(cache.get("[\"dept-2\"]", projection), department2);
+}
+
+@test:Config {
+    groups: ["cache"]
+}
+function fileInvalidationBusTest() returns error? {
+    string path = check file:createTemp();
+    final EntityCache cache = new ({capacity: 10});
+    string projection = getProjectionKey(["deptNo", "deptName"]);
+    cache.put("[\"dept-1\"]", projection, department1.cloneReadOnly(), cache.startLoad());
+    cache.put("[\"dept-2\"]", projection, department2.cloneReadOnly(), cache.startLoad());
+
+    // the two buses represent two instances of a service sharing the file
+    FileInvalidationBus publishingBus = check new (path, 0.1);
+    FileInvalidationBus subscribedBus = check new (path, 0.1);
+    check subscribedBus.subscribe(isolated function(CacheInvalidation & readonly invalidation) {
+        invalidateCaches(invalidation.keys, cache, (), ());
+    });
+
+    check publishingBus.publish({entity: "Department", keys: ["[\"dept-1\"]"]});
+    runtime:sleep(0.5);
+    test:assertEquals(cache.get("[\"dept-1\"]", projection), ());
+    test:assertEquals(cache.get("[\"dept-2\"]", projection), department2);
+
+    // only the invalidations appended since the last poll are read
+    check publishingBus.publish({entity: "Department", keys: ["[\"dept-2\"]"]});
+    runtime:sleep(0.5);
+    test:assertEquals(cache.get("[\"dept-2\"]", projection), ());
+
+    publishingBus.close();
+    subscribedBus.close();
+    check file:remove(path);
+}
+
+@test:Config {
+    groups: ["cache"]
+}
+function fileInvalidationBusReplacementTest() returns error? {
+    string path = check file:createTemp();
+    final EntityCache cache = new ({capacity: 10});
+    string projection = getProjectionKey(["deptNo", "deptName"]);
+    cache.put("[\"dept-1\"]", projection, department1.cloneReadOnly(), cache.startLoad());
+    cache.put("[\"dept-2\"]", projection, department2.cloneReadOnly(), cache.startLoad());
+
+    // the file is replaced by each publish, as it exceeds the maximum size once an invalidation is written
+    FileInvalidationBus publishingBus = check new (path, 0.1, 1);
+    FileInvalidationBus subscribedBus = check new (path, 0.1, 1);
+    check subscribedBus.subscribe(isolated function(CacheInvalidation & readonly invalidation) {
+        invalidateCaches(invalidation.keys, cache, (), ());
+    });
+
+    check publishingBus.publish({entity: "Department", keys: ["[\"dept-1\"]"]});
+    runtime:sleep(0.5);
+    test:assertEquals(cache.get("[\"dept-1\"]", projection), ());
+
+    // the replaced file is read from the start, although it is of the same size as the former file
+    check publishingBus.publish({entity: "Department", keys: ["[\"dept-2\"]"]});
+    runtime:sleep(0.5);
+    test:assertEquals(cache.get("[\"dept-2\"]", projection), ());
+    string[] lines = check io:fileReadLines(path);
+    test:assertEquals(lines.length(), 1);
+
+    publishingBus.close();
+    subscribedBus.close();
+    check file:remove(path);
+}
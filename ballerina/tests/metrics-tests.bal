@@ -0,0 +1,118 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+import ballerinax/mysql;
+
+@test:Config {
+    groups: ["metrics", "in-memory"],
+    dependsOn: [inMemoryBuildingCreateTest]
+}
+function inMemoryMetricsTest() returns error? {
+    InMemoryRainierClient rainierClient = check new ();
+    enableMetrics();
+    resetMetrics();
+
+    Building _ = check rainierClient->/buildings/[building1.buildingCode].get();
+    Building|Error notFound = rainierClient->/buildings/["invalid-building-code"].get();
+    test:assertTrue(notFound is NotFoundError);
+
+    stream<Building, Error?> buildingStream = rainierClient->/buildings.get();
+    Building[] buildings = check from Building building in buildingStream
+        select building;
+    enableMetrics(false);
+
+    OperationMetrics readByKey = getOperationMetrics("Building", "read_by_key");
+    test:assertEquals(readByKey.count, 2);
+    test:assertEquals(readByKey.errors, 1);
+    test:assertEquals(readByKey.rows, 1);
+    test:assertTrue(readByKey.p50 <= readByKey.p99 && readByKey.p99 <= readByKey.maxTime);
+    test:assertTrue(readByKey.maxTime <= readByKey.totalTime);
+
+    OperationMetrics readAll = getOperationMetrics("Building", "read_all");
+    test:assertEquals(readAll.count, 1);
+    test:assertEquals(readAll.errors, 0);
+
+    OperationMetrics conversion = getOperationMetrics("Building", "conversion");
+    test:assertEquals(conversion.rows, buildings.length());
+
+    // operations performed while the metrics are disabled are not recorded
+    _ = check rainierClient->/buildings/[building1.buildingCode].get();
+    test:assertEquals(getOperationMetrics("Building", "read_by_key").count, 2);
+
+    resetMetrics();
+    test:assertEquals(getMetrics().length(), 0);
+    check rainierClient.close();
+}
+
+@test:Config {
+    groups: ["metrics", "sql"],
+    dependsOn: [sqlBuildingCreateTest]
+}
+function sqlMetricsTest() returns error? {
+    SQLRainierClient rainierClient = check new ();
+    enableMetrics();
+    resetMetrics();
+
+    Building _ = check rainierClient->/buildings/[building1.buildingCode].get();
+    BuildingInsert building = {
+        buildingCode: "building-metrics",
+        city: "Colombo",
+        state: "Western Province",
+        country: "Sri Lanka",
+        postalCode: "10370",
+        'type: "rented"
+    };
+    _ = check rainierClient->/buildings.post([building]);
+    _ = check rainierClient->/buildings/[building.buildingCode].put({city: "Kandy"});
+    _ = check rainierClient->/buildings/[building.buildingCode].delete();
+    enableMetrics(false);
+
+    // the update and the delete retrieve the record as well
+    test:assertEquals(getOperationMetrics("Building", "read_by_key").count, 3);
+    test:assertEquals(getOperationMetrics("Building", "insert").rows, 1);
+    test:assertEquals(getOperationMetrics("Building", "update").rows, 1);
+    test:assertEquals(getOperationMetrics("Building", "delete").rows, 1);
+
+    resetMetrics();
+    check rainierClient.close();
+}
+
+isolated function getOperationMetrics(string entity, string operation) returns OperationMetrics {
+    OperationMetrics[] metrics = from OperationMetrics operationMetrics in getMetrics()
+        where operationMetrics.entity == entity && operationMetrics.operation == operation
+        select operationMetrics;
+    test:assertEquals(metrics.length(), 1, string `No metrics recorded for '${operation}' of '${entity}'`);
+    return metrics[0];
+}
+
+@test:Config {
+    groups: ["metrics", "sql"]
+}
+function sqlConnectionPoolStatsTest() returns error? {
+    mysql:Client dbClient = check new (host = host, user = user, password = password, database = database, port = port, connectionPool = connectionPool);
+    SQLClient sqlClient = check new (dbClient, cachedBuildingMetadata);
+    record {}|Error result = sqlClient.runReadByKeyQuery(Building, Building, "invalid-building-code");
+    test:assertTrue(result is NotFoundError);
+
+    ConnectionPoolStats? stats = sqlClient.getConnectionPoolStats();
+    if stats is () {
+        test:assertFail("The connection pool statistics are not available");
+    }
+    test:assertEquals(stats.total, stats.active + stats.idle);
+    test:assertTrue(stats.total <= connectionPool.maxOpenConnections);
+    check dbClient.close();
+}
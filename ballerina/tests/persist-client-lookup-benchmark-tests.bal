@@ -0,0 +1,81 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/test;
+
+// the persist clients looked up through the lock of the generated client, as the generated clients used to do
+isolated class LockedPersistClients {
+
+    private final map<InMemoryClient> persistClients;
+
+    isolated function init(InMemoryClient buildingClient, InMemoryClient employeeClient) {
+        self.persistClients = {
+            [BUILDING] : buildingClient,
+            [EMPLOYEE] : employeeClient
+        };
+    }
+
+    isolated function get(string entity) returns InMemoryClient {
+        lock {
+            return self.persistClients.get(entity);
+        }
+    }
+}
+
+// the persist clients held in a final field per entity, as the generated clients do
+isolated class FieldPersistClients {
+
+    private final InMemoryClient buildingClient;
+
+    private final InMemoryClient employeeClient;
+
+    isolated function init(InMemoryClient buildingClient, InMemoryClient employeeClient) {
+        self.buildingClient = buildingClient;
+        self.employeeClient = employeeClient;
+    }
+
+    isolated function get(string entity) returns InMemoryClient {
+        return entity == BUILDING ? self.buildingClient : self.employeeClient;
+    }
+}
+
+@test:Config {
+    groups: ["benchmark", "in-memory"]
+}
+function persistClientLookupBenchmark() returns error? {
+    if !runBenchmarks {
+        return;
+    }
+
+    InMemoryRainierClient rainierClient = check new ();
+    InMemoryClient buildingClient = check new ({keyFields: ["buildingCode"], query: queryBuildings, queryOne: queryOneBuildings});
+    InMemoryClient employeeClient = check new ({keyFields: ["empNo"], query: queryEmployees, queryOne: queryOneEmployees});
+    final LockedPersistClients lockedPersistClients = new (buildingClient, employeeClient);
+    final FieldPersistClients fieldPersistClients = new (buildingClient, employeeClient);
+    final readonly & string[] entities = [BUILDING, EMPLOYEE];
+
+    io:println(string `${"operation".padEnd(16)}${"rows".padStart(10)}${"strands".padStart(10)}${"ops/sec".padStart(12)}${"bytes/op".padStart(14)}`);
+    foreach int concurrency in benchmarkConcurrency {
+        check runInMemoryBenchmark("locked lookup", rainierClient, entities.length(), concurrency, isolated function(InMemoryRainierClient _, int size, int strand, int iteration) returns error? {
+            _ = lockedPersistClients.get(entities[iteration % size]).getKeyFields();
+        });
+        check runInMemoryBenchmark("field lookup", rainierClient, entities.length(), concurrency, isolated function(InMemoryRainierClient _, int size, int strand, int iteration) returns error? {
+            _ = fieldPersistClients.get(entities[iteration % size]).getKeyFields();
+        });
+    }
+    check rainierClient.close();
+}
@@ -0,0 +1,51 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+@test:Config {
+    groups: ["relation-query-detector"]
+}
+function relationQueryThresholdTest() {
+    test:assertFalse(isThresholdCrossed(0, 20, 20));
+    test:assertTrue(isThresholdCrossed(20, 21, 20));
+    test:assertTrue(isThresholdCrossed(19, 22, 20));
+
+    // the warning is logged only once per operation
+    test:assertFalse(isThresholdCrossed(21, 22, 20));
+}
+
+@test:Config {
+    groups: ["relation-query-detector"]
+}
+function relationQueryCountTest() {
+    int relationQueries = 0;
+    foreach int i in 0 ..< 5 {
+        relationQueries = countRelationQueries("Building", "read_all", ["workspaces"], relationQueries, 2);
+    }
+    test:assertEquals(relationQueries, 10);
+}
+
+@test:Config {
+    groups: ["relation-query-detector"]
+}
+function relationQueryCounterTest() {
+    RelationQueryCounter relationQueryCounter = new ("Building", "read_by_keys", ["workspaces"]);
+    foreach int i in 0 ..< 3 {
+        relationQueryCounter.count();
+    }
+    test:assertEquals(relationQueryCounter.getCount(), 3);
+}
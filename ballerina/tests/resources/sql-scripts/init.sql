@@ -117,3 +117,22 @@ CREATE TABLE test.CompositeAssociationRecord (
 	CONSTRAINT FK_COMPOSITEASSOCIATIONRECORD_ALLTYPESIDRECORD FOREIGN KEY(alltypesidrecordBooleanType, alltypesidrecordIntType, alltypesidrecordFloatType, alltypesidrecordDecimalType, alltypesidrecordStringType) REFERENCES AllTypesIdRecord(booleanType, intType, floatType, decimalType, stringType),
 	PRIMARY KEY(id)
 );
+
+CREATE TABLE test.VersionedDocument (
+	id VARCHAR(36) NOT NULL,
+	title VARCHAR(191) NOT NULL,
+	version INT NOT NULL,
+	PRIMARY KEY(id)
+);
+
+-- a replica, which does not receive the writes to the primary, to test the reads of a lagging replica
+CREATE Database test_replica;
+
+CREATE TABLE test_replica.Building (
+    buildingCode VARCHAR(36) PRIMARY KEY,
+    city VARCHAR(50),
+    state VARCHAR(50),
+    country VARCHAR(50),
+    postalCode VARCHAR(50),
+    type VARCHAR(50)
+);
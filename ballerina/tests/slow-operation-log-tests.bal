@@ -0,0 +1,39 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/sql;
+import ballerina/test;
+
+@test:Config {
+    groups: ["slow-operation-log"]
+}
+function slowOperationQueryTemplateTest() {
+    string buildingCode = "building-1";
+    string city = "Colombo";
+    sql:ParameterizedQuery query = sql:queryConcat(`SELECT * FROM Building WHERE buildingCode = ${buildingCode}`, ` AND city = ${city}`);
+
+    // the bound values are not included in the logged query
+    test:assertEquals(getQueryTemplate(query), "SELECT * FROM Building WHERE buildingCode = ? AND city = ?");
+}
+
+@test:Config {
+    groups: ["slow-operation-log"]
+}
+function slowOperationLogDisabledTest() {
+    // the log is disabled by default, hence the operations are not timed
+    test:assertEquals(startSlowOperationTimer(), ());
+    test:assertEquals(getSlowOperationDuration(()), ());
+}
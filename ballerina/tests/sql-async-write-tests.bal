@@ -0,0 +1,99 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+import ballerinax/mysql;
+
+@test:Config {
+    groups: ["async-write", "sql"]
+}
+function sqlAsyncWriteTest() returns error? {
+    mysql:Client dbClient = check new (host = host, user = user, password = password, database = database, port = port);
+    SQLClient sqlClient = check new (dbClient, cachedBuildingMetadata, {asyncWrites: {capacity: 2, workers: 2, batchSize: 2}});
+
+    // the writes to the full queue wait for the workers to drain the queue
+    foreach Building building in [batchBuilding1, batchBuilding2, batchBuilding3] {
+        check sqlClient.runAsyncInsertQuery(building);
+    }
+    sqlClient.flushAsyncWrites();
+
+    record {} buildingRetrieved = check sqlClient.runReadByKeyQuery(Building, Building, batchBuilding3.buildingCode, buildingFields);
+    test:assertEquals(buildingRetrieved, batchBuilding3);
+
+    check sqlClient.runAsyncUpdateQuery(batchBuilding1.buildingCode, {city: "Negombo"});
+    check sqlClient.runAsyncInsertQuery(batchBuilding2);
+    sqlClient.closeAsyncWrites();
+
+    buildingRetrieved = check sqlClient.runReadByKeyQuery(Building, Building, batchBuilding1.buildingCode, buildingFields);
+    test:assertEquals(buildingRetrieved, {...batchBuilding1, city: "Negombo"});
+    test:assertEquals(sqlClient.getAsyncWriteStats(), {depth: 0, capacity: 2, inFlight: 0, written: 4, failed: 1});
+
+    Error? result = sqlClient.runAsyncInsertQuery(batchBuilding1);
+    test:assertTrue(result is Error);
+
+    _ = check sqlClient.runBatchDeleteQuery([batchBuilding1.buildingCode, batchBuilding2.buildingCode, batchBuilding3.buildingCode]);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["async-write", "sql"]
+}
+function sqlAsyncWriteDisabledTest() returns error? {
+    mysql:Client dbClient = check new (host = host, user = user, password = password, database = database, port = port);
+    SQLClient sqlClient = check new (dbClient, cachedBuildingMetadata);
+
+    Error? result = sqlClient.runAsyncInsertQuery(batchBuilding1);
+    test:assertTrue(result is Error);
+    test:assertEquals(sqlClient.getAsyncWriteStats(), ());
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["async-write", "sql"]
+}
+function sqlAsyncWriteFailureTest() returns error? {
+    mysql:Client dbClient = check new (host = host, user = user, password = password, database = database, port = port);
+    SQLClient sqlClient = check new (dbClient, cachedBuildingMetadata, {asyncWrites: {capacity: 2, batchSize: 2}});
+
+    // a failed write is still reported as done, hence the flush does not wait for it
+    check sqlClient.runAsyncUpdateQuery(batchBuilding1.buildingCode, {invalidField: "Negombo"});
+    check sqlClient.runAsyncUpdateQuery("building-async-invalid", {city: "Negombo"});
+    sqlClient.flushAsyncWrites();
+    test:assertEquals(sqlClient.getAsyncWriteStats(), {depth: 0, capacity: 2, inFlight: 0, written: 0, failed: 2});
+
+    // the worker survives the failures
+    check sqlClient.runAsyncInsertQuery(batchBuilding1);
+    sqlClient.closeAsyncWrites();
+    record {} buildingRetrieved = check sqlClient.runReadByKeyQuery(Building, Building, batchBuilding1.buildingCode, buildingFields);
+    test:assertEquals(buildingRetrieved, batchBuilding1);
+
+    _ = check sqlClient.runBatchDeleteQuery([batchBuilding1.buildingCode]);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["async-write", "sql"]
+}
+function sqlAsyncWriteInvalidConfigTest() returns error? {
+    mysql:Client dbClient = check new (host = host, user = user, password = password, database = database, port = port);
+    SQLClient|Error sqlClient = new (dbClient, cachedBuildingMetadata, {asyncWrites: {workers: 0}});
+    test:assertTrue(sqlClient is Error);
+    sqlClient = new (dbClient, cachedBuildingMetadata, {asyncWrites: {batchSize: 0}});
+    test:assertTrue(sqlClient is Error);
+    sqlClient = new (dbClient, cachedBuildingMetadata, {asyncWrites: {capacity: 0}});
+    test:assertTrue(sqlClient is Error);
+    check dbClient.close();
+}
@@ -0,0 +1,281 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/sql;
+import ballerina/test;
+import ballerinax/mysql;
+
+Building batchBuilding1 = {
+    buildingCode: "building-batch-1",
+    city: "Colombo",
+    state: "Western Province",
+    country: "Sri Lanka",
+    postalCode: "10000",
+    'type: "owned"
+};
+
+Building batchBuilding2 = {
+    buildingCode: "building-batch-2",
+    city: "Kandy",
+    state: "Central Province",
+    country: "Sri Lanka",
+    postalCode: "20000",
+    'type: "rented"
+};
+
+Building batchBuilding3 = {
+    buildingCode: "building-batch-3",
+    city: "Galle",
+    state: "Southern Province",
+    country: "Sri Lanka",
+    postalCode: "80000",
+    'type: "owned"
+};
+
+@test:Config {
+    groups: ["batch-write", "sql"]
+}
+function sqlBatchUpdateTest() returns error? {
+    mysql:Client dbClient = check new (host = host, user = user, password = password, database = database, port = port);
+    SQLClient sqlClient = check new (dbClient, cachedBuildingMetadata);
+    _ = check sqlClient.runBatchInsertQuery([batchBuilding1, batchBuilding2, batchBuilding3]);
+
+    BatchWriteResult[] results = check sqlClient.runBatchUpdateQuery([
+        [batchBuilding1.buildingCode, {city: "Negombo"}],
+        [batchBuilding2.buildingCode, {city: "Matale", 'type: "owned"}],
+        ["building-batch-invalid", {city: "Jaffna"}],
+        [batchBuilding3.buildingCode, {city: "Matara"}]
+    ]);
+    test:assertEquals(results, [
+        {key: batchBuilding1.buildingCode, affected: true},
+        {key: batchBuilding2.buildingCode, affected: true},
+        {key: "building-batch-invalid", affected: false},
+        {key: batchBuilding3.buildingCode, affected: true}
+    ]);
+
+    record {} buildingRetrieved = check sqlClient.runReadByKeyQuery(Building, Building, batchBuilding1.buildingCode, buildingFields);
+    test:assertEquals(buildingRetrieved, {...batchBuilding1, city: "Negombo"});
+    buildingRetrieved = check sqlClient.runReadByKeyQuery(Building, Building, batchBuilding2.buildingCode, buildingFields);
+    test:assertEquals(buildingRetrieved, {...batchBuilding2, city: "Matale", 'type: "owned"});
+    buildingRetrieved = check sqlClient.runReadByKeyQuery(Building, Building, batchBuilding3.buildingCode, buildingFields);
+    test:assertEquals(buildingRetrieved, {...batchBuilding3, city: "Matara"});
+
+    results = check sqlClient.runBatchUpdateQuery([]);
+    test:assertEquals(results, []);
+
+    _ = check sqlClient.runBatchDeleteQuery([batchBuilding1.buildingCode, batchBuilding2.buildingCode, batchBuilding3.buildingCode]);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["batch-write", "sql"],
+    dependsOn: [sqlBatchUpdateTest]
+}
+function sqlBatchDeleteTest() returns error? {
+    mysql:Client dbClient = check new (host = host, user = user, password = password, database = database, port = port);
+    SQLClient sqlClient = check new (dbClient, cachedBuildingMetadata, {cache: {capacity: 10}});
+    _ = check sqlClient.runBatchInsertQuery([batchBuilding1, batchBuilding2, batchBuilding3]);
+    _ = check sqlClient.runReadByKeyQuery(Building, Building, batchBuilding1.buildingCode, buildingFields);
+
+    BatchWriteResult[] results = check sqlClient.runBatchDeleteQuery([batchBuilding1.buildingCode, "building-batch-invalid", batchBuilding2.buildingCode, batchBuilding3.buildingCode]);
+    test:assertEquals(results, [
+        {key: batchBuilding1.buildingCode, affected: true},
+        {key: "building-batch-invalid", affected: false},
+        {key: batchBuilding2.buildingCode, affected: true},
+        {key: batchBuilding3.buildingCode, affected: true}
+    ]);
+
+    // the deleted records should not be served from the cache
+    record {}|Error buildingRetrieved = sqlClient.runReadByKeyQuery(Building, Building, batchBuilding1.buildingCode, buildingFields);
+    test:assertTrue(buildingRetrieved is NotFoundError);
+
+    results = check sqlClient.runBatchDeleteQuery([]);
+    test:assertEquals(results, []);
+
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["batch-write", "sql"],
+    dependsOn: [sqlBatchDeleteTest]
+}
+function sqlUpdateWhereTest() returns error? {
+    mysql:Client dbClient = check new (host = host, user = user, password = password, database = database, port = port);
+    SQLClient sqlClient = check new (dbClient, cachedBuildingMetadata, {cache: {capacity: 10}});
+    _ = check sqlClient.runBatchInsertQuery([batchBuilding1, batchBuilding2, batchBuilding3]);
+    _ = check sqlClient.runReadByKeyQuery(Building, Building, batchBuilding1.buildingCode, buildingFields);
+
+    int updated = check sqlClient.runUpdateWhereQuery(`Building.buildingCode LIKE ${"building-batch-%"} AND Building.type = ${"owned"}`, {country: "LK"});
+    test:assertEquals(updated, 2);
+
+    // the updated records should not be served from the cache
+    record {} buildingRetrieved = check sqlClient.runReadByKeyQuery(Building, Building, batchBuilding1.buildingCode, buildingFields);
+    test:assertEquals(buildingRetrieved, {...batchBuilding1, country: "LK"});
+    buildingRetrieved = check sqlClient.runReadByKeyQuery(Building, Building, batchBuilding2.buildingCode, buildingFields);
+    test:assertEquals(buildingRetrieved, batchBuilding2);
+
+    updated = check sqlClient.runUpdateWhereQuery({buildingCode: batchBuilding3.buildingCode, country: "LK"}, {country: "Sri Lanka"});
+    test:assertEquals(updated, 1);
+    buildingRetrieved = check sqlClient.runReadByKeyQuery(Building, Building, batchBuilding3.buildingCode, buildingFields);
+    test:assertEquals(buildingRetrieved, batchBuilding3);
+
+    int|Error result = sqlClient.runUpdateWhereQuery({invalidField: "owned"}, {country: "LK"});
+    if result is Error {
+        test:assertEquals(result.message(), "'invalidField' is not a field of the 'Building' entity.");
+    } else {
+        test:assertFail("Error expected.");
+    }
+
+    _ = check sqlClient.runBatchDeleteQuery([batchBuilding1.buildingCode, batchBuilding2.buildingCode, batchBuilding3.buildingCode]);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["batch-write", "sql"],
+    dependsOn: [sqlUpdateWhereTest]
+}
+function sqlDeleteWhereTest() returns error? {
+    mysql:Client dbClient = check new (host = host, user = user, password = password, database = database, port = port);
+    SQLClient sqlClient = check new (dbClient, cachedBuildingMetadata);
+    _ = check sqlClient.runBatchInsertQuery([batchBuilding1, batchBuilding2, batchBuilding3]);
+
+    int deleted = check sqlClient.runDeleteWhereQuery({buildingCode: batchBuilding2.buildingCode});
+    test:assertEquals(deleted, 1);
+
+    deleted = check sqlClient.runDeleteWhereQuery(`Building.buildingCode LIKE ${"building-batch-%"}`);
+    test:assertEquals(deleted, 2);
+
+    deleted = check sqlClient.runDeleteWhereQuery(`Building.buildingCode LIKE ${"building-batch-%"}`);
+    test:assertEquals(deleted, 0);
+
+    int|Error result = sqlClient.runDeleteWhereQuery(isolated function(record {} building) returns boolean {
+        return true;
+    });
+    test:assertTrue(result is Error);
+
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["batch-write", "sql"]
+}
+function sqlCoalescedInsertTest() returns error? {
+    mysql:Client dbClient = check new (host = host, user = user, password = password, database = database, port = port);
+    SQLClient sqlClient = check new (dbClient, cachedBuildingMetadata, {writeCoalescing: {maxRows: 10, maxDelay: 0.05}});
+
+    future<sql:ExecutionResult[]|Error>[] inserts = [];
+    foreach Building building in [batchBuilding1, batchBuilding2, batchBuilding1, batchBuilding3] {
+        inserts.push(start sqlClient.runBatchInsertQuery([building]));
+    }
+
+    // each insert completes with the result of its own record, hence only one of the duplicates fails
+    int alreadyExists = 0;
+    foreach future<sql:ExecutionResult[]|Error> insert in inserts {
+        sql:ExecutionResult[]|Error result = wait insert;
+        if result is AlreadyExistsError {
+            test:assertTrue(result.message().includes(batchBuilding1.buildingCode));
+            alreadyExists += 1;
+        } else {
+            test:assertEquals((check result).length(), 1);
+        }
+    }
+    test:assertEquals(alreadyExists, 1);
+
+    record {} buildingRetrieved = check sqlClient.runReadByKeyQuery(Building, Building, batchBuilding3.buildingCode, buildingFields);
+    test:assertEquals(buildingRetrieved, batchBuilding3);
+
+    _ = check sqlClient.runBatchDeleteQuery([batchBuilding1.buildingCode, batchBuilding2.buildingCode, batchBuilding3.buildingCode]);
+    check dbClient.close();
+}
+
+type BuildingWithWorkspaces record {|
+    string buildingCode;
+    string city;
+    record {|string workspaceId; string workspaceType;|}[] workspaces;
+|};
+
+@test:Config {
+    groups: ["batch-read", "sql"]
+}
+function sqlBatchReadTest() returns error? {
+    SQLRainierClient rainierClient = check new ();
+    _ = check rainierClient->/buildings.post([batchBuilding1, batchBuilding2]);
+    Workspace[] workspaces = [
+        {workspaceId: "workspace-batch-1", workspaceType: "small", locationBuildingCode: batchBuilding1.buildingCode},
+        {workspaceId: "workspace-batch-2", workspaceType: "large", locationBuildingCode: batchBuilding1.buildingCode}
+    ];
+    _ = check rainierClient->/workspaces.post(workspaces);
+
+    // the keys are matched the way the database matches them, i.e., case insensitively, and the workspaces of
+    // all the buildings are retrieved by a single query
+    BuildingWithWorkspaces?[] buildings = check rainierClient->/buildings/batch.get(
+        [batchBuilding1.buildingCode.toUpperAscii(), "building-batch-invalid", batchBuilding2.buildingCode]);
+    test:assertEquals(buildings, [
+        {
+            buildingCode: batchBuilding1.buildingCode,
+            city: batchBuilding1.city,
+            workspaces: [{workspaceId: "workspace-batch-1", workspaceType: "small"}, {workspaceId: "workspace-batch-2", workspaceType: "large"}]
+        },
+        (),
+        {buildingCode: batchBuilding2.buildingCode, city: batchBuilding2.city, workspaces: []}
+    ]);
+
+    _ = check rainierClient->/workspaces/["workspace-batch-1"].delete();
+    _ = check rainierClient->/workspaces/["workspace-batch-2"].delete();
+    _ = check rainierClient->/buildings/[batchBuilding1.buildingCode].delete();
+    _ = check rainierClient->/buildings/[batchBuilding2.buildingCode].delete();
+    check rainierClient.close();
+}
+
+final SQLMetadata & readonly batchOrderItemMetadata = {
+    entityName: "OrderItem",
+    tableName: "OrderItem",
+    fieldMetadata: {
+        orderId: {columnName: "orderId"},
+        itemId: {columnName: "itemId"},
+        quantity: {columnName: "quantity"},
+        notes: {columnName: "notes"}
+    },
+    keyFields: ["orderId", "itemId"]
+};
+
+@test:Config {
+    groups: ["batch-write", "sql"]
+}
+function sqlCompositeKeyBatchDeleteTest() returns error? {
+    mysql:Client dbClient = check new (host = host, user = user, password = password, database = database, port = port);
+    SQLClient sqlClient = check new (dbClient, batchOrderItemMetadata);
+    OrderItem[] orderItems = [
+        {orderId: "order-batch-1", itemId: "item-batch-1", quantity: 1, notes: "first"},
+        {orderId: "order-batch-1", itemId: "item-batch-2", quantity: 2, notes: "second"},
+        {orderId: "order-batch-2", itemId: "item-batch-1", quantity: 3, notes: "third"}
+    ];
+    _ = check sqlClient.runBatchInsertQuery(orderItems);
+
+    // the keys share the statement of the batch, regardless of the order of their fields or of other fields
+    BatchWriteResult[] results = check sqlClient.runBatchDeleteQuery([
+        {orderId: "order-batch-1", itemId: "item-batch-1"},
+        {itemId: "item-batch-2", orderId: "order-batch-1"},
+        {quantity: 3, itemId: "item-batch-1", orderId: "order-batch-2"}
+    ]);
+    boolean[] affected = from BatchWriteResult result in results
+        select result.affected;
+    test:assertEquals(affected, [true, true, true]);
+
+    int remaining = check dbClient->queryRow(`SELECT COUNT(*) FROM OrderItem WHERE orderId LIKE 'order-batch-%'`);
+    test:assertEquals(remaining, 0);
+    check dbClient.close();
+}
@@ -0,0 +1,228 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+import ballerinax/mysql;
+
+final SQLMetadata & readonly cachedBuildingMetadata = {
+    entityName: "Building",
+    tableName: "Building",
+    fieldMetadata: {
+        buildingCode: {columnName: "buildingCode"},
+        city: {columnName: "city"},
+        state: {columnName: "state"},
+        country: {columnName: "country"},
+        postalCode: {columnName: "postalCode"},
+        'type: {columnName: "type"}
+    },
+    keyFields: ["buildingCode"]
+};
+
+final string[] & readonly buildingFields = ["buildingCode", "city", "state", "country", "postalCode", "type"];
+
+Building cachedBuilding = {
+    buildingCode: "building-cache-1",
+    city: "Kandy",
+    state: "Central Province",
+    country: "Sri Lanka",
+    postalCode: "20000",
+    'type: "owned"
+};
+
+@test:Config {
+    groups: ["cache", "sql"]
+}
+function sqlEntityCacheReadThroughTest() returns error? {
+    mysql:Client dbClient = check new (host = host, user = user, password = password, database = database, port = port);
+    SQLClient sqlClient = check new (dbClient, cachedBuildingMetadata, {cache: {capacity: 10}});
+    _ = check sqlClient.runBatchInsertQuery([cachedBuilding]);
+
+    record {} buildingRetrieved = check sqlClient.runReadByKeyQuery(Building, Building, cachedBuilding.buildingCode, buildingFields);
+    test:assertEquals(buildingRetrieved, cachedBuilding);
+
+    // the cached record should not be affected by modifications to a retrieved record
+    buildingRetrieved["city"] = "Galle";
+    buildingRetrieved = check sqlClient.runReadByKeyQuery(Building, Building, cachedBuilding.buildingCode, buildingFields);
+    test:assertEquals(buildingRetrieved, cachedBuilding);
+
+    CacheStats? stats = sqlClient.getCacheStats();
+    test:assertEquals(stats?.hits, 1);
+    test:assertEquals(stats?.misses, 1);
+
+    check sqlClient.runDeleteQuery(cachedBuilding.buildingCode);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["cache", "sql"]
+}
+function sqlEntityCacheInvalidationTest() returns error? {
+    mysql:Client dbClient = check new (host = host, user = user, password = password, database = database, port = port);
+    SQLClient sqlClient = check new (dbClient, cachedBuildingMetadata, {cache: {capacity: 10}});
+    _ = check sqlClient.runBatchInsertQuery([cachedBuilding]);
+
+    record {} buildingRetrieved = check sqlClient.runReadByKeyQuery(Building, Building, cachedBuilding.buildingCode, buildingFields);
+    test:assertEquals(buildingRetrieved, cachedBuilding);
+
+    check sqlClient.runUpdateQuery(cachedBuilding.buildingCode, {city: "Galle"});
+    buildingRetrieved = check sqlClient.runReadByKeyQuery(Building, Building, cachedBuilding.buildingCode, buildingFields);
+    Building buildingUpdated = cachedBuilding.clone();
+    buildingUpdated.city = "Galle";
+    test:assertEquals(buildingRetrieved, buildingUpdated);
+
+    check sqlClient.runDeleteQuery(cachedBuilding.buildingCode);
+    record {}|Error deletedBuilding = sqlClient.runReadByKeyQuery(Building, Building, cachedBuilding.buildingCode, buildingFields);
+    test:assertTrue(deletedBuilding is NotFoundError);
+
+    test:assertEquals(sqlClient.getCacheStats()?.hits, 0);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["cache", "sql"]
+}
+function sqlQueryCacheTest() returns error? {
+    mysql:Client dbClient = check new (host = host, user = user, password = password, database = database, port = port);
+    SQLClient sqlClient = check new (dbClient, cachedBuildingMetadata, {queryCache: {capacity: 4}});
+    _ = check sqlClient.runBatchInsertQuery([cachedBuilding]);
+
+    Building[] buildings = check getCachedBuildings(sqlClient);
+    test:assertEquals(buildings, [cachedBuilding]);
+    buildings = check getCachedBuildings(sqlClient);
+    test:assertEquals(buildings, [cachedBuilding]);
+    test:assertEquals(sqlClient.getQueryCacheStats()?.hits, 1);
+
+    check sqlClient.runUpdateQuery(cachedBuilding.buildingCode, {city: "Galle"});
+    buildings = check getCachedBuildings(sqlClient);
+    test:assertEquals(buildings.length(), 1);
+    test:assertEquals(buildings[0].city, "Galle");
+    test:assertEquals(sqlClient.getQueryCacheStats()?.hits, 1);
+
+    check sqlClient.runDeleteQuery(cachedBuilding.buildingCode);
+    buildings = check getCachedBuildings(sqlClient);
+    test:assertEquals(buildings, []);
+    check dbClient.close();
+}
+
+function getCachedBuildings(SQLClient sqlClient) returns Building[]|error {
+    stream<record {}, error?> buildingStream = check sqlClient.runReadQuery(Building, buildingFields);
+    return from record {} building in buildingStream
+        where building["buildingCode"] == cachedBuilding.buildingCode
+        select check building.cloneWithType(Building);
+}
+
+@test:Config {
+    groups: ["cache", "sql"]
+}
+function sqlNegativeCacheTest() returns error? {
+    mysql:Client dbClient = check new (host = host, user = user, password = password, database = database, port = port);
+    SQLClient sqlClient = check new (dbClient, cachedBuildingMetadata, {negativeCache: {capacity: 10}});
+
+    record {}|Error buildingRetrieved = sqlClient.runReadByKeyQuery(Building, Building, cachedBuilding.buildingCode, buildingFields);
+    test:assertTrue(buildingRetrieved is NotFoundError);
+    buildingRetrieved = sqlClient.runReadByKeyQuery(Building, Building, cachedBuilding.buildingCode, buildingFields);
+    test:assertTrue(buildingRetrieved is NotFoundError);
+    test:assertEquals(sqlClient.getNegativeCacheStats()?.hits, 1);
+
+    _ = check sqlClient.runBatchInsertQuery([cachedBuilding]);
+    buildingRetrieved = sqlClient.runReadByKeyQuery(Building, Building, cachedBuilding.buildingCode, buildingFields);
+    test:assertEquals(buildingRetrieved, cachedBuilding);
+
+    check sqlClient.runDeleteQuery(cachedBuilding.buildingCode);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["cache", "transactions", "sql"]
+}
+function sqlEntityCacheTransactionTest() returns error? {
+    mysql:Client dbClient = check new (host = host, user = user, password = password, database = database, port = port);
+    SQLClient sqlClient = check new (dbClient, cachedBuildingMetadata, {cache: {capacity: 10}});
+    _ = check sqlClient.runBatchInsertQuery([cachedBuilding]);
+
+    record {} buildingRetrieved = check sqlClient.runReadByKeyQuery(Building, Building, cachedBuilding.buildingCode, buildingFields);
+    test:assertEquals(buildingRetrieved, cachedBuilding);
+
+    transaction {
+        check sqlClient.runUpdateQuery(cachedBuilding.buildingCode, {city: "Galle"});
+
+        // reads within the transaction should bypass the cache and see the uncommitted update
+        buildingRetrieved = check sqlClient.runReadByKeyQuery(Building, Building, cachedBuilding.buildingCode, buildingFields);
+        test:assertEquals(buildingRetrieved["city"], "Galle");
+        check commit;
+    }
+
+    buildingRetrieved = check sqlClient.runReadByKeyQuery(Building, Building, cachedBuilding.buildingCode, buildingFields);
+    test:assertEquals(buildingRetrieved["city"], "Galle");
+
+    transaction {
+        check sqlClient.runUpdateQuery(cachedBuilding.buildingCode, {city: "Matara"});
+        rollback;
+    }
+
+    buildingRetrieved = check sqlClient.runReadByKeyQuery(Building, Building, cachedBuilding.buildingCode, buildingFields);
+    test:assertEquals(buildingRetrieved["city"], "Galle");
+
+    check sqlClient.runDeleteQuery(cachedBuilding.buildingCode);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["cache", "sql"]
+}
+function sqlEntityCacheInvalidationBusTest() returns error? {
+    mysql:Client dbClient = check new (host = host, user = user, password = password, database = database, port = port);
+    LocalInvalidationBus invalidationBus = new;
+    // the two clients represent two instances of a service with separate caches
+    SQLClient sqlClient = check new (dbClient, cachedBuildingMetadata, {cache: {capacity: 10}, invalidationBus});
+    SQLClient otherSqlClient = check new (dbClient, cachedBuildingMetadata, {cache: {capacity: 10}, invalidationBus});
+    _ = check sqlClient.runBatchInsertQuery([cachedBuilding]);
+
+    record {} buildingRetrieved = check otherSqlClient.runReadByKeyQuery(Building, Building, cachedBuilding.buildingCode, buildingFields);
+    test:assertEquals(buildingRetrieved, cachedBuilding);
+
+    check sqlClient.runUpdateQuery(cachedBuilding.buildingCode, {city: "Galle"});
+    buildingRetrieved = check otherSqlClient.runReadByKeyQuery(Building, Building, cachedBuilding.buildingCode, buildingFields);
+    test:assertEquals(buildingRetrieved["city"], "Galle");
+    test:assertEquals(otherSqlClient.getCacheStats()?.hits, 0);
+
+    // a closed client is no longer notified of the invalidations, hence it reads the stale record from its cache
+    check otherSqlClient.close();
+    check sqlClient.runUpdateQuery(cachedBuilding.buildingCode, {city: "Kandy"});
+    buildingRetrieved = check otherSqlClient.runReadByKeyQuery(Building, Building, cachedBuilding.buildingCode, buildingFields);
+    test:assertEquals(buildingRetrieved["city"], "Galle");
+
+    check sqlClient.runDeleteQuery(cachedBuilding.buildingCode);
+    check sqlClient.close();
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["cache", "sql"]
+}
+function sqlCacheMaxAgeValidationTest() returns error? {
+    mysql:Client dbClient = check new (host = host, user = user, password = password, database = database, port = port);
+    SQLClient|Error sqlClient = new (dbClient, cachedBuildingMetadata, {cache: {capacity: 10, maxAge: 0}});
+    if sqlClient is Error {
+        test:assertEquals(sqlClient.message(), "The maximum age of a cache should be positive, or -1 to never expire.");
+    } else {
+        test:assertFail("Error expected for a cache maximum age of 0.");
+    }
+
+    // a maximum age of -1 never expires the records
+    SQLClient _ = check new (dbClient, cachedBuildingMetadata, {queryCache: {maxAge: -1}});
+    check dbClient.close();
+}
@@ -214,3 +214,48 @@ function compositeKeyDeleteTestNegative() returns error? {
 
     check rainierClient.close();
 }
+
+@test:Config {
+    groups: ["composite-key"],
+    dependsOn: [compositeKeyCreateTest]
+}
+function compositeKeyReadManyByKeysTest() returns error? {
+    SQLRainierClient rainierClient = check new ();
+    [string, string][] keys = [[orderItem1.orderId, orderItem1.itemId], ["invalid-order-id", orderItem1.itemId], [orderItem1.orderId, orderItem1.itemId]];
+
+    // the records are returned in the order of the keys, with () in place of the keys that do not exist
+    OrderItem?[] orderItems = check rainierClient->/orderitems/batch.get(keys);
+    test:assertEquals(orderItems, [orderItem1, (), orderItem1]);
+
+    orderItems = check rainierClient->/orderitems/batch.get([]);
+    test:assertEquals(orderItems, []);
+    check rainierClient.close();
+}
+
+@test:Config {
+    groups: ["composite-key"],
+    dependsOn: [compositeKeyDeleteTest, compositeKeyReadManyByKeysTest]
+}
+function compositeKeyUpsertTest() returns error? {
+    SQLRainierClient rainierClient = check new ();
+    OrderItem orderItem1Updated = {...orderItem1, quantity: 15, notes: "updated"};
+    OrderItem orderItem3 = {orderId: "order-3", itemId: "item-3", quantity: 1, notes: "new"};
+
+    // an existing record is updated and a new record is inserted
+    [string, string][] ids = check rainierClient->/orderitems.put([orderItem1Updated, orderItem3]);
+    test:assertEquals(ids, [[orderItem1.orderId, orderItem1.itemId], [orderItem3.orderId, orderItem3.itemId]]);
+
+    OrderItem orderItemRetrieved = check rainierClient->/orderitems/[orderItem1.orderId]/[orderItem1.itemId].get();
+    test:assertEquals(orderItemRetrieved, orderItem1Updated);
+    orderItemRetrieved = check rainierClient->/orderitems/[orderItem3.orderId]/[orderItem3.itemId].get();
+    test:assertEquals(orderItemRetrieved, orderItem3);
+
+    // the upsert is idempotent
+    ids = check rainierClient->/orderitems.put([orderItem1, orderItem1]);
+    test:assertEquals(ids, [[orderItem1.orderId, orderItem1.itemId], [orderItem1.orderId, orderItem1.itemId]]);
+    orderItemRetrieved = check rainierClient->/orderitems/[orderItem1.orderId]/[orderItem1.itemId].get();
+    test:assertEquals(orderItemRetrieved, orderItem1);
+
+    _ = check rainierClient->/orderitems/[orderItem3.orderId]/[orderItem3.itemId].delete();
+    check rainierClient.close();
+}
@@ -0,0 +1,162 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/sql;
+import ballerina/test;
+import ballerinax/mysql;
+
+// a database, which does not receive the writes to the primary, i.e. a replica lagging behind indefinitely
+configurable string replicaDatabase = "test_replica";
+
+final Building replicaBuilding = {
+    buildingCode: "building-replica",
+    city: "Kandy",
+    state: "Central Province",
+    country: "Sri Lanka",
+    postalCode: "20000",
+    'type: "owned"
+};
+
+@test:Config {
+    groups: ["replica", "sql"]
+}
+function replicaPoolRoundRobinTest() returns error? {
+    mysql:Client replica1 = check new (host = host, user = user, password = password, database = database, port = port);
+    mysql:Client replica2 = check new (host = host, user = user, password = password, database = database, port = port);
+    ReplicaPool replicaPool = new ([replica1, replica2], ROUND_ROBIN, 1);
+
+    var [index1, selected1] = replicaPool.acquire();
+    var [index2, selected2] = replicaPool.acquire();
+    var [index3, selected3] = replicaPool.acquire();
+    test:assertEquals([index1, index2, index3], [0, 1, 0]);
+    test:assertTrue(selected1 === replica1 && selected2 === replica2 && selected3 === replica1);
+
+    check replica1.close();
+    check replica2.close();
+}
+
+@test:Config {
+    groups: ["replica", "sql"]
+}
+function replicaPoolLeastLoadedTest() returns error? {
+    mysql:Client replica1 = check new (host = host, user = user, password = password, database = database, port = port);
+    mysql:Client replica2 = check new (host = host, user = user, password = password, database = database, port = port);
+    ReplicaPool replicaPool = new ([replica1, replica2], LEAST_LOADED, 1);
+
+    var [index1, _] = replicaPool.acquire();
+    var [index2, _] = replicaPool.acquire();
+    test:assertEquals([index1, index2], [0, 1]);
+
+    // the first replica has no reads in progress once released
+    replicaPool.release(index1);
+    var [index3, selected3] = replicaPool.acquire();
+    test:assertEquals(index3, 0);
+    test:assertTrue(selected3 === replica1);
+
+    check replica1.close();
+    check replica2.close();
+}
+
+@test:Config {
+    groups: ["replica", "sql"]
+}
+function replicaPoolStreamReleaseTest() returns error? {
+    mysql:Client replica1 = check new (host = host, user = user, password = password, database = database, port = port);
+    mysql:Client replica2 = check new (host = host, user = user, password = password, database = database, port = port);
+    ReplicaPool replicaPool = new ([replica1, replica2], LEAST_LOADED, 1);
+
+    var [index1, selected1] = replicaPool.acquire();
+    stream<record {}, sql:Error?> resultStream = selected1->query(`SELECT * FROM Building`);
+    stream<record {}, sql:Error?> replicaStream = new (new ReplicaResultIterator(resultStream, replicaPool, index1));
+    var [index2, _] = replicaPool.acquire();
+    test:assertEquals([index1, index2], [0, 1]);
+
+    // the first replica stays loaded while its stream is open
+    replicaPool.release(index2);
+    var [index3, _] = replicaPool.acquire();
+    test:assertEquals(index3, 1);
+
+    // the first replica is released once its stream is closed
+    check replicaStream.close();
+    var [index4, _] = replicaPool.acquire();
+    test:assertEquals(index4, 0);
+
+    check replica1.close();
+    check replica2.close();
+}
+
+@test:Config {
+    groups: ["replica", "sql"]
+}
+function sqlReplicaReadTest() returns error? {
+    mysql:Client primary = check new (host = host, user = user, password = password, database = database, port = port);
+    mysql:Client replica = check new (host = host, user = user, password = password, database = database, port = port);
+    SQLClient sqlClient = check new (primary, cachedBuildingMetadata, {replicas: [replica]});
+    _ = check sqlClient.runBatchInsertQuery([replicaBuilding]);
+
+    record {} buildingRetrieved = check sqlClient.runReadByKeyQuery(Building, Building, replicaBuilding.buildingCode, buildingFields);
+    test:assertEquals(buildingRetrieved, replicaBuilding);
+
+    // reads within a transaction are performed on the primary, hence they see the uncommitted changes
+    transaction {
+        check sqlClient.runUpdateQuery(replicaBuilding.buildingCode, {city: "Galle"});
+        buildingRetrieved = check sqlClient.runReadByKeyQuery(Building, Building, replicaBuilding.buildingCode, buildingFields);
+        test:assertEquals(buildingRetrieved["city"], "Galle");
+        check commit;
+    }
+
+    check sqlClient.runDeleteQuery(replicaBuilding.buildingCode);
+    check primary.close();
+    check replica.close();
+}
+
+@test:Config {
+    groups: ["replica", "sql"]
+}
+function sqlLaggingReplicaReadTest() returns error? {
+    mysql:Client primary = check new (host = host, user = user, password = password, database = database, port = port);
+    mysql:Client replica = check new (host = host, user = user, password = password, database = replicaDatabase, port = port);
+    Building laggingBuilding = {...replicaBuilding, buildingCode: "building-lagging-replica"};
+    _ = check replica->execute(`INSERT INTO Building VALUES (${laggingBuilding.buildingCode}, ${laggingBuilding.city},
+        ${laggingBuilding.state}, ${laggingBuilding.country}, ${laggingBuilding.postalCode}, ${laggingBuilding.'type})`);
+    SQLClient sqlClient = check new (primary, cachedBuildingMetadata, {replicas: [replica], replicaLag: 0.5});
+    SQLClient cachedSqlClient = check new (primary, cachedBuildingMetadata, {cache: {capacity: 10}, replicas: [replica], replicaLag: 0.5});
+    _ = check sqlClient.runBatchInsertQuery([laggingBuilding]);
+
+    // a key written within the replica lag is read from the primary, such as when it is read back after an update
+    check cachedSqlClient.runUpdateQuery(laggingBuilding.buildingCode, {city: "Galle"});
+    record {} buildingRetrieved = check cachedSqlClient.runReadByKeyQuery(Building, Building, laggingBuilding.buildingCode, buildingFields);
+    test:assertEquals(buildingRetrieved["city"], "Galle");
+
+    // the record read from the primary is cached, hence the stale record of the replica is not served once the lag
+    // has elapsed
+    runtime:sleep(1);
+    buildingRetrieved = check cachedSqlClient.runReadByKeyQuery(Building, Building, laggingBuilding.buildingCode, buildingFields);
+    test:assertEquals(buildingRetrieved["city"], "Galle");
+    test:assertEquals(cachedSqlClient.getCacheStats()?.hits, 1);
+
+    // once the lag has elapsed, the key is read from the replica unless the primary is requested
+    buildingRetrieved = check sqlClient.runReadByKeyQuery(Building, Building, laggingBuilding.buildingCode, buildingFields);
+    test:assertEquals(buildingRetrieved["city"], laggingBuilding.city);
+    buildingRetrieved = check sqlClient.runReadByKeyQuery(Building, Building, laggingBuilding.buildingCode, buildingFields, primary = true);
+    test:assertEquals(buildingRetrieved["city"], "Galle");
+
+    check sqlClient.runDeleteQuery(laggingBuilding.buildingCode);
+    _ = check replica->execute(`DELETE FROM Building WHERE buildingCode = ${laggingBuilding.buildingCode}`);
+    check primary.close();
+    check replica.close();
+}
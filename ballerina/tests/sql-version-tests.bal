@@ -0,0 +1,138 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+import ballerinax/mysql;
+
+type VersionedDocument record {|
+    readonly string id;
+    string title;
+    int version;
+|};
+
+final SQLMetadata & readonly versionedDocumentMetadata = {
+    entityName: "VersionedDocument",
+    tableName: "VersionedDocument",
+    fieldMetadata: {
+        id: {columnName: "id"},
+        title: {columnName: "title"},
+        version: {columnName: "version"}
+    },
+    keyFields: ["id"],
+    versionField: "version"
+};
+
+final string[] & readonly versionedDocumentFields = ["id", "title", "version"];
+
+@test:Config {
+    groups: ["version", "sql"]
+}
+function sqlVersionedUpdateTest() returns error? {
+    mysql:Client dbClient = check new (host = host, user = user, password = password, database = database, port = port);
+    SQLClient sqlClient = check new (dbClient, versionedDocumentMetadata);
+    VersionedDocument document = {id: "document-version-1", title: "Draft", version: 1};
+    _ = check sqlClient.runBatchInsertQuery([document]);
+
+    // an update without the version is always performed, and increments the version
+    check sqlClient.runUpdateQuery(document.id, {title: "Review"});
+    record {} documentRetrieved = check sqlClient.runReadByKeyQuery(VersionedDocument, VersionedDocument, document.id, versionedDocumentFields);
+    test:assertEquals(documentRetrieved, {id: document.id, title: "Review", version: 2});
+
+    check sqlClient.runUpdateQuery(document.id, {title: "Final", version: 2});
+    documentRetrieved = check sqlClient.runReadByKeyQuery(VersionedDocument, VersionedDocument, document.id, versionedDocumentFields);
+    test:assertEquals(documentRetrieved, {id: document.id, title: "Final", version: 3});
+
+    // an update based on a stale version is rejected
+    Error? result = sqlClient.runUpdateQuery(document.id, {title: "Stale", version: 2});
+    test:assertTrue(result is VersionConflictError);
+    documentRetrieved = check sqlClient.runReadByKeyQuery(VersionedDocument, VersionedDocument, document.id, versionedDocumentFields);
+    test:assertEquals(documentRetrieved, {id: document.id, title: "Final", version: 3});
+
+    result = sqlClient.runUpdateQuery("document-version-invalid", {title: "Stale", version: 1});
+    test:assertTrue(result is NotFoundError);
+
+    BatchWriteResult[] results = check sqlClient.runBatchUpdateQuery([[document.id, {title: "Stale", version: 2}]]);
+    test:assertEquals(results.length(), 1);
+    test:assertFalse(results[0].affected);
+    test:assertTrue(results[0].'error is VersionConflictError);
+    results = check sqlClient.runBatchUpdateQuery([[document.id, {title: "Archived", version: 3}]]);
+    test:assertEquals(results, [{key: document.id, affected: true}]);
+    documentRetrieved = check sqlClient.runReadByKeyQuery(VersionedDocument, VersionedDocument, document.id, versionedDocumentFields);
+    test:assertEquals(documentRetrieved, {id: document.id, title: "Archived", version: 4});
+
+    check sqlClient.runDeleteQuery(document.id);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["version", "sql"],
+    dependsOn: [sqlVersionedUpdateTest]
+}
+function sqlVersionedBatchUpdateTest() returns error? {
+    mysql:Client dbClient = check new (host = host, user = user, password = password, database = database, port = port);
+    SQLClient sqlClient = check new (dbClient, versionedDocumentMetadata);
+    VersionedDocument document1 = {id: "document-version-2", title: "Draft", version: 1};
+    VersionedDocument document2 = {id: "document-version-3", title: "Draft", version: 1};
+    _ = check sqlClient.runBatchInsertQuery([document1, document2]);
+
+    BatchWriteResult[] results = check sqlClient.runBatchUpdateQuery([
+        [document1.id, {title: "Stale", version: 2}],
+        [document2.id, {title: "Review", version: 1}],
+        ["document-version-invalid", {title: "Stale", version: 1}]
+    ]);
+
+    // only the update of a stale version of an existing record is reported as a conflict
+    test:assertFalse(results[0].affected);
+    Error? conflictError = results[0].'error;
+    if conflictError is VersionConflictError {
+        test:assertEquals(conflictError.message(), "The 'VersionedDocument' entity with the key 'document-version-2' is no longer of version '2'.");
+    } else {
+        test:assertFail("VersionConflictError expected.");
+    }
+    test:assertEquals(results[1], {key: document2.id, affected: true});
+    test:assertEquals(results[2], {key: "document-version-invalid", affected: false});
+
+    record {} documentRetrieved = check sqlClient.runReadByKeyQuery(VersionedDocument, VersionedDocument, document1.id, versionedDocumentFields);
+    test:assertEquals(documentRetrieved, document1);
+
+    _ = check sqlClient.runBatchDeleteQuery([document1.id, document2.id]);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["version", "sql"],
+    dependsOn: [sqlVersionedBatchUpdateTest]
+}
+function sqlVersionedUpsertTest() returns error? {
+    mysql:Client dbClient = check new (host = host, user = user, password = password, database = database, port = port);
+    SQLClient sqlClient = check new (dbClient, versionedDocumentMetadata);
+    VersionedDocument document = {id: "document-version-4", title: "Draft", version: 1};
+
+    // a new record is inserted of the given version
+    check sqlClient.runUpsertQuery(document);
+    record {} documentRetrieved = check sqlClient.runReadByKeyQuery(VersionedDocument, VersionedDocument, document.id, versionedDocumentFields);
+    test:assertEquals(documentRetrieved, document);
+
+    // the version of an existing record is incremented, hence an update based on the former version is rejected
+    check sqlClient.runUpsertQuery({...document, title: "Upserted"});
+    documentRetrieved = check sqlClient.runReadByKeyQuery(VersionedDocument, VersionedDocument, document.id, versionedDocumentFields);
+    test:assertEquals(documentRetrieved, {id: document.id, title: "Upserted", version: 2});
+    Error? result = sqlClient.runUpdateQuery(document.id, {title: "Stale", version: 1});
+    test:assertTrue(result is VersionConflictError);
+
+    check sqlClient.runDeleteQuery(document.id);
+    check dbClient.close();
+}
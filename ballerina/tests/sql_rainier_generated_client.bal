@@ -28,8 +28,19 @@ public isolated client class SQLRainierClient {
 
     private final mysql:Client dbClient;
 
+    // the persist clients are looked up by the native processors of the `get` resources
     private final map<SQLClient> persistClients;
 
+    private final SQLClient employeeClient;
+
+    private final SQLClient workspaceClient;
+
+    private final SQLClient buildingClient;
+
+    private final SQLClient departmentClient;
+
+    private final SQLClient orderItemClient;
+
     private final record {|SQLMetadata...;|} & readonly metadata = {
         [EMPLOYEE] : {
             entityName: "Employee",
@@ -132,18 +143,23 @@ public isolated client class SQLRainierClient {
     };
 
     public isolated function init() returns Error? {
-        mysql:Client|error dbClient = new (host = host, user = user, password = password, database = database, port = port);
+        mysql:Client|error dbClient = new (host = host, user = user, password = password, database = database, port = port, connectionPool = connectionPool);
         if dbClient is error {
             return <Error>error(dbClient.message());
         }
         self.dbClient = dbClient;
 
+        self.employeeClient = check new (dbClient, self.metadata.get(EMPLOYEE));
+        self.workspaceClient = check new (dbClient, self.metadata.get(WORKSPACE));
+        self.buildingClient = check new (dbClient, self.metadata.get(BUILDING));
+        self.departmentClient = check new (dbClient, self.metadata.get(DEPARTMENT));
+        self.orderItemClient = check new (dbClient, self.metadata.get(ORDER_ITEM));
         self.persistClients = {
-            [EMPLOYEE] : check new (dbClient, self.metadata.get(EMPLOYEE)),
-            [WORKSPACE] : check new (dbClient, self.metadata.get(WORKSPACE)),
-            [BUILDING] : check new (dbClient, self.metadata.get(BUILDING)),
-            [DEPARTMENT] : check new (dbClient, self.metadata.get(DEPARTMENT)),
-            [ORDER_ITEM] : check new (dbClient, self.metadata.get(ORDER_ITEM))
+            [EMPLOYEE] : self.employeeClient,
+            [WORKSPACE] : self.workspaceClient,
+            [BUILDING] : self.buildingClient,
+            [DEPARTMENT] : self.departmentClient,
+            [ORDER_ITEM] : self.orderItemClient
         };
     }
 
@@ -158,30 +174,21 @@ public isolated client class SQLRainierClient {
     } external;
 
     isolated resource function post employees(EmployeeInsert[] data) returns string[]|Error {
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(EMPLOYEE);
-        }
+        SQLClient sqlClient = self.employeeClient;
         _ = check sqlClient.runBatchInsertQuery(data);
         return from EmployeeInsert inserted in data
             select inserted.empNo;
     }
 
     isolated resource function put employees/[string empNo](EmployeeUpdate value) returns Employee|Error {
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(EMPLOYEE);
-        }
+        SQLClient sqlClient = self.employeeClient;
         _ = check sqlClient.runUpdateQuery(empNo, value);
         return self->/employees/[empNo].get();
     }
 
     isolated resource function delete employees/[string empNo]() returns Employee|Error {
         Employee result = check self->/employees/[empNo].get();
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(EMPLOYEE);
-        }
+        SQLClient sqlClient = self.employeeClient;
         _ = check sqlClient.runDeleteQuery(empNo);
         return result;
     }
@@ -197,30 +204,21 @@ public isolated client class SQLRainierClient {
     } external;
 
     isolated resource function post workspaces(WorkspaceInsert[] data) returns string[]|Error {
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(WORKSPACE);
-        }
+        SQLClient sqlClient = self.workspaceClient;
         _ = check sqlClient.runBatchInsertQuery(data);
         return from WorkspaceInsert inserted in data
             select inserted.workspaceId;
     }
 
     isolated resource function put workspaces/[string workspaceId](WorkspaceUpdate value) returns Workspace|Error {
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(WORKSPACE);
-        }
+        SQLClient sqlClient = self.workspaceClient;
         _ = check sqlClient.runUpdateQuery(workspaceId, value);
         return self->/workspaces/[workspaceId].get();
     }
 
     isolated resource function delete workspaces/[string workspaceId]() returns Workspace|Error {
         Workspace result = check self->/workspaces/[workspaceId].get();
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(WORKSPACE);
-        }
+        SQLClient sqlClient = self.workspaceClient;
         _ = check sqlClient.runDeleteQuery(workspaceId);
         return result;
     }
@@ -235,31 +233,34 @@ public isolated client class SQLRainierClient {
         name: "queryOne"
     } external;
 
+    isolated resource function get buildings/batch(string[] buildingCodes, BuildingTargetType targetType = <>) returns (targetType?)[]|Error = @java:Method {
+        'class: "io.ballerina.stdlib.persist.datastore.MySQLProcessor",
+        name: "queryMany"
+    } external;
+
     isolated resource function post buildings(BuildingInsert[] data) returns string[]|Error {
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(BUILDING);
-        }
+        SQLClient sqlClient = self.buildingClient;
         _ = check sqlClient.runBatchInsertQuery(data);
         return from BuildingInsert inserted in data
             select inserted.buildingCode;
     }
 
+    isolated resource function put buildings(BuildingInsert[] data) returns string[]|Error {
+        SQLClient sqlClient = self.buildingClient;
+        _ = check sqlClient.runBatchUpsertQuery(data);
+        return from BuildingInsert inserted in data
+            select inserted.buildingCode;
+    }
+
     isolated resource function put buildings/[string buildingCode](BuildingUpdate value) returns Building|Error {
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(BUILDING);
-        }
+        SQLClient sqlClient = self.buildingClient;
         _ = check sqlClient.runUpdateQuery(buildingCode, value);
         return self->/buildings/[buildingCode].get();
     }
 
     isolated resource function delete buildings/[string buildingCode]() returns Building|Error {
         Building result = check self->/buildings/[buildingCode].get();
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(BUILDING);
-        }
+        SQLClient sqlClient = self.buildingClient;
         _ = check sqlClient.runDeleteQuery(buildingCode);
         return result;
     }
@@ -275,30 +276,21 @@ public isolated client class SQLRainierClient {
     } external;
 
     isolated resource function post departments(DepartmentInsert[] data) returns string[]|Error {
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(DEPARTMENT);
-        }
+        SQLClient sqlClient = self.departmentClient;
         _ = check sqlClient.runBatchInsertQuery(data);
         return from DepartmentInsert inserted in data
             select inserted.deptNo;
     }
 
     isolated resource function put departments/[string deptNo](DepartmentUpdate value) returns Department|Error {
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(DEPARTMENT);
-        }
+        SQLClient sqlClient = self.departmentClient;
         _ = check sqlClient.runUpdateQuery(deptNo, value);
         return self->/departments/[deptNo].get();
     }
 
     isolated resource function delete departments/[string deptNo]() returns Department|Error {
         Department result = check self->/departments/[deptNo].get();
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(DEPARTMENT);
-        }
+        SQLClient sqlClient = self.departmentClient;
         _ = check sqlClient.runDeleteQuery(deptNo);
         return result;
     }
@@ -313,37 +305,53 @@ public isolated client class SQLRainierClient {
         name: "queryOne"
     } external;
 
+    isolated resource function get orderitems/batch([string, string][] keys, OrderItemTargetType targetType = <>) returns (targetType?)[]|Error = @java:Method {
+        'class: "io.ballerina.stdlib.persist.datastore.MySQLProcessor",
+        name: "queryMany"
+    } external;
+
     isolated resource function post orderitems(OrderItemInsert[] data) returns [string, string][]|Error {
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(ORDER_ITEM);
-        }
+        SQLClient sqlClient = self.orderItemClient;
         _ = check sqlClient.runBatchInsertQuery(data);
         return from OrderItemInsert inserted in data
             select [inserted.orderId, inserted.itemId];
     }
 
+    isolated resource function put orderitems(OrderItemInsert[] data) returns [string, string][]|Error {
+        SQLClient sqlClient = self.orderItemClient;
+        _ = check sqlClient.runBatchUpsertQuery(data);
+        return from OrderItemInsert inserted in data
+            select [inserted.orderId, inserted.itemId];
+    }
+
     isolated resource function put orderitems/[string orderId]/[string itemId](OrderItemUpdate value) returns OrderItem|Error {
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(ORDER_ITEM);
-        }
+        SQLClient sqlClient = self.orderItemClient;
         _ = check sqlClient.runUpdateQuery({"orderId": orderId, "itemId": itemId}, value);
         return self->/orderitems/[orderId]/[itemId].get();
     }
 
     isolated resource function delete orderitems/[string orderId]/[string itemId]() returns OrderItem|Error {
         OrderItem result = check self->/orderitems/[orderId]/[itemId].get();
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(ORDER_ITEM);
-        }
+        SQLClient sqlClient = self.orderItemClient;
         _ = check sqlClient.runDeleteQuery({"orderId": orderId, "itemId": itemId});
         return result;
     }
 
     public isolated function close() returns Error? {
+        // all the clients are closed, even if some of them fail to close, and the first failure is returned
+        Error?[] results = [
+            self.employeeClient.close(),
+            self.workspaceClient.close(),
+            self.buildingClient.close(),
+            self.departmentClient.close(),
+            self.orderItemClient.close()
+        ];
         error? result = self.dbClient.close();
+        foreach Error? entityResult in results {
+            if entityResult is Error {
+                return entityResult;
+            }
+        }
         if result is error {
             return <Error>error(result.message());
         }
@@ -31,8 +31,25 @@ public isolated client class SQLTestEntitiesClient {
 
     private final mysql:Client dbClient;
 
+    // the persist clients are looked up by the native processors of the `get` resources
     private final map<SQLClient> persistClients;
 
+    private final SQLClient allTypesClient;
+
+    private final SQLClient stringIdRecordClient;
+
+    private final SQLClient intIdRecordClient;
+
+    private final SQLClient floatIdRecordClient;
+
+    private final SQLClient decimalIdRecordClient;
+
+    private final SQLClient booleanIdRecordClient;
+
+    private final SQLClient compositeAssociationRecordClient;
+
+    private final SQLClient allTypesIdRecordClient;
+
     private final record {|SQLMetadata...;|} & readonly metadata = {
         [ALL_TYPES] : {
             entityName: "AllTypes",
@@ -156,15 +173,23 @@ public isolated client class SQLTestEntitiesClient {
             return <Error>error(dbClient.message());
         }
         self.dbClient = dbClient;
+        self.allTypesClient = check new (self.dbClient, self.metadata.get(ALL_TYPES));
+        self.stringIdRecordClient = check new (self.dbClient, self.metadata.get(STRING_ID_RECORD));
+        self.intIdRecordClient = check new (self.dbClient, self.metadata.get(INT_ID_RECORD));
+        self.floatIdRecordClient = check new (self.dbClient, self.metadata.get(FLOAT_ID_RECORD));
+        self.decimalIdRecordClient = check new (self.dbClient, self.metadata.get(DECIMAL_ID_RECORD));
+        self.booleanIdRecordClient = check new (self.dbClient, self.metadata.get(BOOLEAN_ID_RECORD));
+        self.compositeAssociationRecordClient = check new (self.dbClient, self.metadata.get(COMPOSITE_ASSOCIATION_RECORD));
+        self.allTypesIdRecordClient = check new (self.dbClient, self.metadata.get(ALL_TYPES_ID_RECORD));
         self.persistClients = {
-            [ALL_TYPES] : check new (self.dbClient, self.metadata.get(ALL_TYPES)),
-            [STRING_ID_RECORD] : check new (self.dbClient, self.metadata.get(STRING_ID_RECORD)),
-            [INT_ID_RECORD] : check new (self.dbClient, self.metadata.get(INT_ID_RECORD)),
-            [FLOAT_ID_RECORD] : check new (self.dbClient, self.metadata.get(FLOAT_ID_RECORD)),
-            [DECIMAL_ID_RECORD] : check new (self.dbClient, self.metadata.get(DECIMAL_ID_RECORD)),
-            [BOOLEAN_ID_RECORD] : check new (self.dbClient, self.metadata.get(BOOLEAN_ID_RECORD)),
-            [COMPOSITE_ASSOCIATION_RECORD] : check new (self.dbClient, self.metadata.get(COMPOSITE_ASSOCIATION_RECORD)),
-            [ALL_TYPES_ID_RECORD] : check new (self.dbClient, self.metadata.get(ALL_TYPES_ID_RECORD))
+            [ALL_TYPES] : self.allTypesClient,
+            [STRING_ID_RECORD] : self.stringIdRecordClient,
+            [INT_ID_RECORD] : self.intIdRecordClient,
+            [FLOAT_ID_RECORD] : self.floatIdRecordClient,
+            [DECIMAL_ID_RECORD] : self.decimalIdRecordClient,
+            [BOOLEAN_ID_RECORD] : self.booleanIdRecordClient,
+            [COMPOSITE_ASSOCIATION_RECORD] : self.compositeAssociationRecordClient,
+            [ALL_TYPES_ID_RECORD] : self.allTypesIdRecordClient
         };
     }
 
@@ -179,30 +204,21 @@ public isolated client class SQLTestEntitiesClient {
     } external;
 
     isolated resource function post alltypes(AllTypesInsert[] data) returns int[]|Error {
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(ALL_TYPES);
-        }
+        SQLClient sqlClient = self.allTypesClient;
         _ = check sqlClient.runBatchInsertQuery(data);
         return from AllTypesInsert inserted in data
             select inserted.id;
     }
 
     isolated resource function put alltypes/[int id](AllTypesUpdate value) returns AllTypes|Error {
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(ALL_TYPES);
-        }
+        SQLClient sqlClient = self.allTypesClient;
         _ = check sqlClient.runUpdateQuery(id, value);
         return self->/alltypes/[id].get();
     }
 
     isolated resource function delete alltypes/[int id]() returns AllTypes|Error {
         AllTypes result = check self->/alltypes/[id].get();
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(ALL_TYPES);
-        }
+        SQLClient sqlClient = self.allTypesClient;
         _ = check sqlClient.runDeleteQuery(id);
         return result;
     }
@@ -218,30 +234,21 @@ public isolated client class SQLTestEntitiesClient {
     } external;
 
     isolated resource function post stringidrecords(StringIdRecordInsert[] data) returns string[]|Error {
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(STRING_ID_RECORD);
-        }
+        SQLClient sqlClient = self.stringIdRecordClient;
         _ = check sqlClient.runBatchInsertQuery(data);
         return from StringIdRecordInsert inserted in data
             select inserted.id;
     }
 
     isolated resource function put stringidrecords/[string id](StringIdRecordUpdate value) returns StringIdRecord|Error {
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(STRING_ID_RECORD);
-        }
+        SQLClient sqlClient = self.stringIdRecordClient;
         _ = check sqlClient.runUpdateQuery(id, value);
         return self->/stringidrecords/[id].get();
     }
 
     isolated resource function delete stringidrecords/[string id]() returns StringIdRecord|Error {
         StringIdRecord result = check self->/stringidrecords/[id].get();
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(STRING_ID_RECORD);
-        }
+        SQLClient sqlClient = self.stringIdRecordClient;
         _ = check sqlClient.runDeleteQuery(id);
         return result;
     }
@@ -257,30 +264,21 @@ public isolated client class SQLTestEntitiesClient {
     } external;
 
     isolated resource function post intidrecords(IntIdRecordInsert[] data) returns int[]|Error {
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(INT_ID_RECORD);
-        }
+        SQLClient sqlClient = self.intIdRecordClient;
         _ = check sqlClient.runBatchInsertQuery(data);
         return from IntIdRecordInsert inserted in data
             select inserted.id;
     }
 
     isolated resource function put intidrecords/[int id](IntIdRecordUpdate value) returns IntIdRecord|Error {
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(INT_ID_RECORD);
-        }
+        SQLClient sqlClient = self.intIdRecordClient;
         _ = check sqlClient.runUpdateQuery(id, value);
         return self->/intidrecords/[id].get();
     }
 
     isolated resource function delete intidrecords/[int id]() returns IntIdRecord|Error {
         IntIdRecord result = check self->/intidrecords/[id].get();
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(INT_ID_RECORD);
-        }
+        SQLClient sqlClient = self.intIdRecordClient;
         _ = check sqlClient.runDeleteQuery(id);
         return result;
     }
@@ -296,30 +294,21 @@ public isolated client class SQLTestEntitiesClient {
     } external;
 
     isolated resource function post floatidrecords(FloatIdRecordInsert[] data) returns float[]|Error {
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(FLOAT_ID_RECORD);
-        }
+        SQLClient sqlClient = self.floatIdRecordClient;
         _ = check sqlClient.runBatchInsertQuery(data);
         return from FloatIdRecordInsert inserted in data
             select inserted.id;
     }
 
     isolated resource function put floatidrecords/[float id](FloatIdRecordUpdate value) returns FloatIdRecord|Error {
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(FLOAT_ID_RECORD);
-        }
+        SQLClient sqlClient = self.floatIdRecordClient;
         _ = check sqlClient.runUpdateQuery(id, value);
         return self->/floatidrecords/[id].get();
     }
 
     isolated resource function delete floatidrecords/[float id]() returns FloatIdRecord|Error {
         FloatIdRecord result = check self->/floatidrecords/[id].get();
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(FLOAT_ID_RECORD);
-        }
+        SQLClient sqlClient = self.floatIdRecordClient;
         _ = check sqlClient.runDeleteQuery(id);
         return result;
     }
@@ -335,30 +324,21 @@ public isolated client class SQLTestEntitiesClient {
     } external;
 
     isolated resource function post decimalidrecords(DecimalIdRecordInsert[] data) returns decimal[]|Error {
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(DECIMAL_ID_RECORD);
-        }
+        SQLClient sqlClient = self.decimalIdRecordClient;
         _ = check sqlClient.runBatchInsertQuery(data);
         return from DecimalIdRecordInsert inserted in data
             select inserted.id;
     }
 
     isolated resource function put decimalidrecords/[decimal id](DecimalIdRecordUpdate value) returns DecimalIdRecord|Error {
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(DECIMAL_ID_RECORD);
-        }
+        SQLClient sqlClient = self.decimalIdRecordClient;
         _ = check sqlClient.runUpdateQuery(id, value);
         return self->/decimalidrecords/[id].get();
     }
 
     isolated resource function delete decimalidrecords/[decimal id]() returns DecimalIdRecord|Error {
         DecimalIdRecord result = check self->/decimalidrecords/[id].get();
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(DECIMAL_ID_RECORD);
-        }
+        SQLClient sqlClient = self.decimalIdRecordClient;
         _ = check sqlClient.runDeleteQuery(id);
         return result;
     }
@@ -374,30 +354,21 @@ public isolated client class SQLTestEntitiesClient {
     } external;
 
     isolated resource function post booleanidrecords(BooleanIdRecordInsert[] data) returns boolean[]|Error {
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(BOOLEAN_ID_RECORD);
-        }
+        SQLClient sqlClient = self.booleanIdRecordClient;
         _ = check sqlClient.runBatchInsertQuery(data);
         return from BooleanIdRecordInsert inserted in data
             select inserted.id;
     }
 
     isolated resource function put booleanidrecords/[boolean id](BooleanIdRecordUpdate value) returns BooleanIdRecord|Error {
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(BOOLEAN_ID_RECORD);
-        }
+        SQLClient sqlClient = self.booleanIdRecordClient;
         _ = check sqlClient.runUpdateQuery(id, value);
         return self->/booleanidrecords/[id].get();
     }
 
     isolated resource function delete booleanidrecords/[boolean id]() returns BooleanIdRecord|Error {
         BooleanIdRecord result = check self->/booleanidrecords/[id].get();
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(BOOLEAN_ID_RECORD);
-        }
+        SQLClient sqlClient = self.booleanIdRecordClient;
         _ = check sqlClient.runDeleteQuery(id);
         return result;
     }
@@ -413,30 +384,21 @@ public isolated client class SQLTestEntitiesClient {
     } external;
 
     isolated resource function post compositeassociationrecords(CompositeAssociationRecordInsert[] data) returns string[]|Error {
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(COMPOSITE_ASSOCIATION_RECORD);
-        }
+        SQLClient sqlClient = self.compositeAssociationRecordClient;
         _ = check sqlClient.runBatchInsertQuery(data);
         return from CompositeAssociationRecordInsert inserted in data
             select inserted.id;
     }
 
     isolated resource function put compositeassociationrecords/[string id](CompositeAssociationRecordUpdate value) returns CompositeAssociationRecord|Error {
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(COMPOSITE_ASSOCIATION_RECORD);
-        }
+        SQLClient sqlClient = self.compositeAssociationRecordClient;
         _ = check sqlClient.runUpdateQuery(id, value);
         return self->/compositeassociationrecords/[id].get();
     }
 
     isolated resource function delete compositeassociationrecords/[string id]() returns CompositeAssociationRecord|Error {
         CompositeAssociationRecord result = check self->/compositeassociationrecords/[id].get();
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(COMPOSITE_ASSOCIATION_RECORD);
-        }
+        SQLClient sqlClient = self.compositeAssociationRecordClient;
         _ = check sqlClient.runDeleteQuery(id);
         return result;
     }
@@ -452,36 +414,43 @@ public isolated client class SQLTestEntitiesClient {
     } external;
 
     isolated resource function post alltypesidrecords(AllTypesIdRecordInsert[] data) returns [boolean, int, float, decimal, string][]|Error {
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(ALL_TYPES_ID_RECORD);
-        }
+        SQLClient sqlClient = self.allTypesIdRecordClient;
         _ = check sqlClient.runBatchInsertQuery(data);
         return from AllTypesIdRecordInsert inserted in data
             select [inserted.booleanType, inserted.intType, inserted.floatType, inserted.decimalType, inserted.stringType];
     }
 
     isolated resource function put alltypesidrecords/[boolean booleanType]/[int intType]/[float floatType]/[decimal decimalType]/[string stringType](AllTypesIdRecordUpdate value) returns AllTypesIdRecord|Error {
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(ALL_TYPES_ID_RECORD);
-        }
+        SQLClient sqlClient = self.allTypesIdRecordClient;
         _ = check sqlClient.runUpdateQuery({"booleanType": booleanType, "intType": intType, "floatType": floatType, "decimalType": decimalType, "stringType": stringType}, value);
         return self->/alltypesidrecords/[booleanType]/[intType]/[floatType]/[decimalType]/[stringType].get();
     }
 
     isolated resource function delete alltypesidrecords/[boolean booleanType]/[int intType]/[float floatType]/[decimal decimalType]/[string stringType]() returns AllTypesIdRecord|Error {
         AllTypesIdRecord result = check self->/alltypesidrecords/[booleanType]/[intType]/[floatType]/[decimalType]/[stringType].get();
-        SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(ALL_TYPES_ID_RECORD);
-        }
+        SQLClient sqlClient = self.allTypesIdRecordClient;
         _ = check sqlClient.runDeleteQuery({"booleanType": booleanType, "intType": intType, "floatType": floatType, "decimalType": decimalType, "stringType": stringType});
         return result;
     }
 
     public isolated function close() returns Error? {
+        // all the clients are closed, even if some of them fail to close, and the first failure is returned
+        Error?[] results = [
+            self.allTypesClient.close(),
+            self.stringIdRecordClient.close(),
+            self.intIdRecordClient.close(),
+            self.floatIdRecordClient.close(),
+            self.decimalIdRecordClient.close(),
+            self.booleanIdRecordClient.close(),
+            self.compositeAssociationRecordClient.close(),
+            self.allTypesIdRecordClient.close()
+        ];
         error? result = self.dbClient.close();
+        foreach Error? entityResult in results {
+            if entityResult is Error {
+                return entityResult;
+            }
+        }
         if result is error {
             return <Error>error(result.message());
         }
@@ -0,0 +1,93 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/observe;
+import ballerina/sql;
+
+const NO_SPAN = -1;
+
+const OPERATION_SPAN_PREFIX = "persist:";
+const QUERY_SPAN = "persist:query";
+const RELATION_QUERY_SPAN = "persist:relation_query";
+
+const ENTITY_TAG = "persist.entity";
+const FIELDS_TAG = "persist.fields";
+const INCLUDE_TAG = "persist.include";
+const RELATION_TAG = "persist.relation";
+const QUERY_TAG = "db.statement";
+const ROWS_TAG = "persist.rows";
+const ERROR_TAG = "error";
+
+# Starts a span of a persist operation, which is a child of the active span of the current strand.
+#
+# + operation - The persist operation
+# + entity - The name of the entity
+# + fields - The fields retrieved or written by the operation
+# + include - The relations retrieved by the operation
+# + query - The query of an operation, which is performed with a single query
+# + return - The ID of the span or `NO_SPAN` if tracing is not enabled
+isolated function startOperationSpan(string operation, string entity, string[] fields = [], string[] include = [], sql:ParameterizedQuery? query = ()) returns int {
+    if !observe:isTracingEnabled() {
+        return NO_SPAN;
+    }
+
+    map<string> tags = {[ENTITY_TAG]: entity};
+    if fields.length() > 0 {
+        tags[FIELDS_TAG] = string:'join(",", ...fields);
+    }
+    if include.length() > 0 {
+        tags[INCLUDE_TAG] = string:'join(",", ...include);
+    }
+    if query is sql:ParameterizedQuery {
+        tags[QUERY_TAG] = getQueryTemplate(query);
+    }
+    int|error spanId = observe:startSpan(OPERATION_SPAN_PREFIX + operation, tags);
+    return spanId is int ? spanId : NO_SPAN;
+}
+
+# Starts a span of an SQL query, which is a child of the given persist operation span.
+#
+# + parentSpanId - The ID of the operation span
+# + entity - The name of the entity
+# + query - The query, which is recorded without the bound values
+# + relation - The relation retrieved by the query, if the query retrieves a relation of the entity
+# + return - The ID of the span or `NO_SPAN` if the operation is not traced
+isolated function startQuerySpan(int parentSpanId, string entity, sql:ParameterizedQuery query, string? relation = ()) returns int {
+    if parentSpanId == NO_SPAN {
+        return NO_SPAN;
+    }
+
+    map<string> tags = {[ENTITY_TAG]: entity, [QUERY_TAG]: getQueryTemplate(query)};
+    if relation is string {
+        tags[RELATION_TAG] = relation;
+    }
+    int|error spanId = observe:startSpan(relation is () ? QUERY_SPAN : RELATION_QUERY_SPAN, tags, parentSpanId);
+    return spanId is int ? spanId : NO_SPAN;
+}
+
+isolated function finishSpan(int spanId, int? rows = (), error? err = ()) {
+    if spanId == NO_SPAN {
+        return;
+    }
+
+    if rows is int {
+        error? _ = observe:addTagToSpan(ROWS_TAG, rows.toString(), spanId);
+    }
+    if err is error {
+        error? _ = observe:addTagToSpan(ERROR_TAG, "true", spanId);
+    }
+    error? _ = observe:finishSpan(spanId);
+}
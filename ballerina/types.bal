@@ -0,0 +1,238 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/sql;
+
+# Represents the optional configurations of a `persist:SQLClient`.
+#
+# + cache - The configurations of the read-through cache used by `get`-by-key operations.
+# The cache is disabled if this is `()`
+# + queryCache - The configurations of the result cache used by `get`-all operations.
+# The cache is disabled if this is `()`
+# + negativeCache - The configurations of the cache of keys, which are known not to exist in the data store.
+# A `get`-by-key operation for such a key returns a `persist:NotFoundError` without a data store round trip.
+# The cache is disabled if this is `()`
+# + invalidationBus - The bus through which the invalidations caused by the writes of the client are shared with the
+# other instances of the client (e.g., the replicas of a service), and through which the invalidations caused by them
+# are received
+# + replicas - The clients of the read replicas of the database. The reads outside transactions are performed on
+# the replicas, and the writes and the reads within transactions are performed on the primary client
+# + replicaSelection - The policy used to select the replica for a read
+# + replicaLag - The maximum time (in seconds) the replicas are expected to lag behind the primary. The reads of a key
+# within this time after the key is written are performed on the primary, and the replica reads within this time after
+# a write do not fill the query cache
+# + writeCoalescing - The configurations of the coalescing of concurrent single-record inserts into batches.
+# The inserts are not coalesced if this is `()`
+# + asyncWrites - The configurations of the queue of the asynchronous writes. The asynchronous writes are disabled
+# if this is `()`
+public type SQLClientOptions record {|
+    CacheConfig? cache = ();
+    QueryCacheConfig? queryCache = ();
+    CacheConfig? negativeCache = ();
+    InvalidationBus? invalidationBus = ();
+    sql:Client[] replicas = [];
+    ReplicaSelection replicaSelection = ROUND_ROBIN;
+    decimal replicaLag = 1;
+    WriteCoalescingConfig? writeCoalescing = ();
+    AsyncWriteConfig? asyncWrites = ();
+|};
+
+# Represents the configurations of the coalescing of concurrent single-record inserts. The inserts performed outside
+# transactions are gathered and executed as a single batch, and each insert completes with the result of its own
+# record. Inserts within transactions are executed immediately.
+#
+# + maxRows - The maximum number of records in a batch. A full batch is executed immediately
+# + maxDelay - The maximum time (in seconds) an insert waits for the batch to be filled
+public type WriteCoalescingConfig record {|
+    int maxRows = 100;
+    decimal maxDelay = 0.005;
+|};
+
+# Represents the policy used to select the read replica for a read operation.
+#
+# + ROUND_ROBIN - The replicas are selected in turn
+# + LEAST_LOADED - The replica with the least number of reads in progress, including the streams not yet consumed, is
+# selected
+public enum ReplicaSelection {
+    ROUND_ROBIN,
+    LEAST_LOADED
+}
+
+# Represents the configurations of the asynchronous writes of an SQL client. The writes are queued and written in
+# batches by the workers. The writes are neither ordered across the workers nor performed within the transaction
+# of the caller.
+#
+# + capacity - The maximum number of writes held in the queue. A write to a full queue waits for space in the queue
+# + workers - The number of workers, which write the queued writes
+# + batchSize - The maximum number of writes written by a worker as a batch
+public type AsyncWriteConfig record {|
+    int capacity = 10000;
+    int workers = 1;
+    int batchSize = 100;
+|};
+
+# Represents the configurations of an entity cache.
+# Records retrieved along with their relations (`include`s) are not cached.
+#
+# + capacity - The maximum number of entity keys held in the cache
+# + maxAge - The time (in seconds) after which a cached record expires. The records never expire if this is `-1`.
+#            Any other value that is not positive is rejected when the client is created
+public type CacheConfig record {|
+    int capacity = 1000;
+    decimal maxAge = 60;
+|};
+
+# Represents the configurations of a query result cache, which holds the complete results of `get`-all
+# operations keyed by the retrieved fields and relations. The cached results are invalidated by the writes performed
+# through the same client. Relations included from other entities are refreshed only when the results expire.
+#
+# + capacity - The maximum number of distinct field and relation combinations held in the cache
+# + maxAge - The time (in seconds) after which a cached result expires. The results never expire if this is `-1`.
+#            Any other value that is not positive is rejected when the client is created
+# + maxRows - The maximum number of rows in a result that can be cached. Larger results are streamed from the database
+public type QueryCacheConfig record {|
+    int capacity = 16;
+    decimal maxAge = 60;
+    int maxRows = 10000;
+|};
+
+# Represents the statistics of an entity cache.
+#
+# + hits - The number of lookups served from the cache
+# + misses - The number of lookups that had to be served from the data store
+# + hitRate - The ratio of hits to the total number of lookups
+# + evictions - The number of entries evicted or rejected due to the capacity limit
+# + expirations - The number of entries removed after exceeding the `maxAge`
+# + size - The number of entity keys currently held in the cache
+public type CacheStats record {|
+    int hits;
+    int misses;
+    float hitRate;
+    int evictions;
+    int expirations;
+    int size;
+|};
+
+# Represents the statistics of the connection pool of an SQL client.
+#
+# + active - The number of connections in use
+# + idle - The number of connections available in the pool
+# + total - The total number of connections in the pool
+# + waiting - The number of requests waiting for a connection
+public type ConnectionPoolStats record {|
+    int active;
+    int idle;
+    int total;
+    int waiting;
+|};
+
+# Represents the statistics of the asynchronous writes of an SQL client.
+#
+# + depth - The number of writes waiting in the queue
+# + capacity - The maximum number of writes held in the queue
+# + inFlight - The number of writes taken from the queue, which are being written
+# + written - The number of writes written successfully
+# + failed - The number of writes, which failed. The failures are logged
+public type AsyncWriteStats record {|
+    int depth;
+    int capacity;
+    int inFlight;
+    int written;
+    int failed;
+|};
+
+# Represents the metrics of an operation performed on an entity by the persist clients.
+# The percentiles are approximated from an exponential latency histogram.
+#
+# + entity - The name of the entity
+# + operation - The operation (`read_all`, `read_by_key`, `read_by_keys`, `relation_fetch`, `insert`, `upsert`, `update`, `delete`, `async_write`, or `conversion`)
+# + count - The number of times the operation was performed
+# + errors - The number of times the operation failed
+# + rows - The number of rows read or written by the operation
+# + totalTime - The total time spent on the operation in seconds
+# + p50 - The median latency of the operation in seconds
+# + p95 - The 95th percentile latency of the operation in seconds
+# + p99 - The 99th percentile latency of the operation in seconds
+# + maxTime - The maximum latency of the operation in seconds
+public type OperationMetrics record {|
+    string entity;
+    string operation;
+    int count;
+    int errors;
+    int rows;
+    decimal totalTime;
+    decimal p50;
+    decimal p95;
+    decimal p99;
+    decimal maxTime;
+|};
+
+# Represents the outcome of the write of a single key in a batch update or delete operation.
+#
+# + key - The key of the entity
+# + affected - Whether a record of the key was updated or deleted
+# + 'error - The error, if the write of the key failed
+public type BatchWriteResult record {|
+    anydata key;
+    boolean affected = false;
+    Error? 'error = ();
+|};
+
+# Represents a filter of the records of an in-memory table. The function is called on the records of the table
+# while the table is locked, hence it should neither modify the record nor access the table.
+public type FilterPredicate isolated function (record {} 'object) returns boolean;
+
+# Represents a filter of the records of an entity, which are updated or deleted by a filter. A map of field values
+# matches the records whose fields are equal to the given values, and is supported by all the persist clients.
+# An SQL condition is supported only by the SQL client, and a `FilterPredicate` only by the in-memory client.
+public type WriteFilter map<anydata>|sql:ParameterizedQuery|FilterPredicate;
+
+# Represents an invalidation of the cached records of an entity caused by a write.
+#
+# + entity - The name of the entity
+# + keys - The cache keys of the written records, or `"*"` if all the cached records of the entity are invalidated
+# + publisher - The ID of the client, which published the invalidation. The client has already invalidated its own
+# caches, hence it ignores the invalidation
+public type CacheInvalidation record {|
+    string entity;
+    string[] keys;
+    string publisher?;
+|};
+
+# Represents a function, which is notified of the invalidations published to an `InvalidationBus`.
+public type InvalidationListener isolated function (CacheInvalidation & readonly invalidation);
+
+# Represents a channel through which the cache invalidations are shared across the instances of the persist clients.
+public type InvalidationBus isolated object {
+
+    # Publishes an invalidation to all the listeners of the bus.
+    #
+    # + invalidation - The invalidation to be published
+    # + return - A `persist:Error` if the invalidation could not be published
+    public isolated function publish(CacheInvalidation & readonly invalidation) returns Error?;
+
+    # Registers a listener, which is notified of the invalidations published to the bus.
+    #
+    # + invalidationListener - The listener to be registered
+    # + return - A `persist:Error` if the listener could not be registered
+    public isolated function subscribe(InvalidationListener invalidationListener) returns Error?;
+
+    # Deregisters a listener, which is no longer notified of the invalidations published to the bus.
+    #
+    # + invalidationListener - The listener to be deregistered
+    # + return - A `persist:Error` if the listener could not be deregistered
+    public isolated function unsubscribe(InvalidationListener invalidationListener) returns Error?;
+};
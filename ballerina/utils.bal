@@ -47,6 +47,49 @@ isolated function arrayToParameterizedQuery(string[] arr, sql:ParameterizedQuery
     return query;
 }
 
+isolated function getValueTuples(anydata[][] tuples) returns sql:ParameterizedQuery {
+    sql:ParameterizedQuery query = ``;
+    foreach int i in 0 ..< tuples.length() {
+        sql:ParameterizedQuery tuple = i == 0 ? `(` : `, (`;
+        foreach int j in 0 ..< tuples[i].length() {
+            tuple = sql:queryConcat(tuple, j == 0 ? `` : `, `, `${<sql:Value>tuples[i][j]}`);
+        }
+        query = sql:queryConcat(query, tuple, `)`);
+    }
+    return query;
+}
+
+// normalizes a key value the way the database compares it, i.e., the strings case and accent insensitively, and
+// the numbers regardless of their representation
+isolated function normalizeKeyValue(anydata value) returns anydata {
+    if value is string {
+        return normalizeKeyString(value);
+    }
+    if value is int|float {
+        decimal|error normalized = trap <decimal>value;
+        return normalized is decimal ? normalized : value;
+    }
+    return value;
+}
+
+isolated function normalizeKeyString(string value) returns string = @java:Method {
+    'class: "io.ballerina.stdlib.persist.Utils"
+} external;
+
+isolated function getAffectedRowCount(sql:ExecutionResult|sql:Error? result) returns int {
+    if result is sql:ExecutionResult {
+        return result.affectedRowCount ?: 0;
+    }
+    return 0;
+}
+
+isolated function getWriteError(sql:Error e) returns Error {
+    if e.message().indexOf("a foreign key constraint fails ") is int {
+        return <ConstraintViolationError>error(e.message());
+    }
+    return <Error>error(e.message());
+}
+
 # Closes the googlesheets and inmemory entity stream.
 #
 # + customStream - Stream that needs to be closed
@@ -124,3 +167,20 @@ public isolated function getKey(anydata|record {} 'object, string[] keyFields) r
     }
     return keyRecord;
 }
+
+# Updates the fields of a record of an in-memory table in place, assigning only the fields whose values changed.
+# This should be called while holding the lock of the table.
+#
+# + 'object - The record of the table to be updated
+# + value - The values of the fields to be updated
+# + return - The number of fields changed
+public isolated function patchRecord(record {} 'object, record {} value) returns int {
+    int changed = 0;
+    foreach [string, anydata] [k, v] in value.entries() {
+        if 'object[k] != v {
+            'object[k] = v;
+            changed += 1;
+        }
+    }
+    return changed;
+}
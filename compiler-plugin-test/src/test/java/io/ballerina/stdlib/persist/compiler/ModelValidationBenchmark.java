@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.persist.compiler;
+
+import io.ballerina.projects.DiagnosticResult;
+import io.ballerina.projects.directory.SingleFileProject;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.ballerina.stdlib.persist.compiler.TestUtils.getEnvironmentBuilder;
+
+/**
+ * Benchmarks the validation of large persist models. The time and the memory allocated to compile a model file is
+ * measured with and without the persist compiler plugin validations, where the difference is the cost of the
+ * validations. This is not a part of the unit tests, and is run with
+ * `./gradlew :persist-compiler-plugin-test:benchmark -Pentities=10,100,1000`.
+ */
+public class ModelValidationBenchmark {
+
+    private static final String ENTITY_COUNTS_PROPERTY = "persist.benchmark.entities";
+    private static final String DEFAULT_ENTITY_COUNTS = "10,100,1000";
+    private static final int RELATIONS_PER_ENTITY = 3;
+    private static final int WARMUP_ITERATIONS = 2;
+    private static final int ITERATIONS = 5;
+
+    private Path benchmarkDirectory;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        benchmarkDirectory = Files.createTempDirectory("persist-benchmark");
+        Files.writeString(benchmarkDirectory.resolve("Ballerina.toml"),
+                "[package]\norg = \"root\"\nname = \"benchmark\"\nversion = \"0.1.0\"\n\n" +
+                        "[persist]\ndatastore = \"mysql\"\n", StandardCharsets.UTF_8);
+        Files.createDirectories(benchmarkDirectory.resolve("persist"));
+        Files.createDirectories(benchmarkDirectory.resolve("resources"));
+    }
+
+    @AfterClass
+    public void cleanup() throws IOException {
+        try (Stream<Path> paths = Files.walk(benchmarkDirectory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test
+    public void benchmarkModelValidation() throws IOException {
+        List<Integer> entityCounts = new ArrayList<>();
+        for (String entityCount : System.getProperty(ENTITY_COUNTS_PROPERTY, DEFAULT_ENTITY_COUNTS).split(",")) {
+            entityCounts.add(Integer.parseInt(entityCount.trim()));
+        }
+
+        System.out.printf("%10s%10s%20s%20s%20s%20s%n", "entities", "relations", "compile (ms)", "validation (ms)",
+                "compile (MB)", "validation (MB)");
+        for (int entityCount : entityCounts) {
+            String model = generateModel(entityCount);
+            // a model file is validated only if it is within the persist directory of a package
+            Path modelFile = Files.writeString(benchmarkDirectory.resolve("persist").resolve("model.bal"), model);
+            Path plainFile = Files.writeString(benchmarkDirectory.resolve("resources").resolve("model.bal"), model);
+
+            Measurement withValidation = measure(modelFile);
+            Measurement withoutValidation = measure(plainFile);
+            System.out.printf("%10d%10d%20.1f%20.1f%20.1f%20.1f%n", entityCount, getRelationCount(entityCount),
+                    withoutValidation.millis, withValidation.millis - withoutValidation.millis,
+                    withoutValidation.megabytes, withValidation.megabytes - withoutValidation.megabytes);
+        }
+    }
+
+    private static Measurement measure(Path modelFile) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            compile(modelFile);
+        }
+
+        long[] durations = new long[ITERATIONS];
+        long[] allocations = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long allocatedBytes = getAllocatedBytes();
+            long startTime = System.nanoTime();
+            compile(modelFile);
+            durations[i] = System.nanoTime() - startTime;
+            allocations[i] = getAllocatedBytes() - allocatedBytes;
+        }
+        Arrays.sort(durations);
+        Arrays.sort(allocations);
+        return new Measurement(durations[ITERATIONS / 2] / 1_000_000.0, allocations[ITERATIONS / 2] / 1_048_576.0);
+    }
+
+    private static void compile(Path modelFile) {
+        SingleFileProject project = SingleFileProject.load(getEnvironmentBuilder(), modelFile);
+        DiagnosticResult diagnosticResult = project.currentPackage().getCompilation().diagnosticResult();
+        long errorCount = diagnosticResult.diagnostics().stream()
+                .filter(diagnostic -> diagnostic.diagnosticInfo().severity().equals(DiagnosticSeverity.ERROR))
+                .count();
+        Assert.assertEquals(errorCount, 0, "the generated model should be valid");
+    }
+
+    private static long getAllocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static int getRelationCount(int entityCount) {
+        int relationCount = 0;
+        for (int i = 0; i < entityCount; i++) {
+            relationCount += Math.min(RELATIONS_PER_ENTITY, entityCount - i - 1);
+        }
+        return relationCount;
+    }
+
+    /**
+     * Generates a valid model, where each entity is related to the next {@link #RELATIONS_PER_ENTITY} entities. The
+     * first of these relations is a one-to-one relation and the others are one-to-many relations.
+     */
+    private static String generateModel(int entityCount) {
+        List<List<String>> relationFields = new ArrayList<>();
+        for (int i = 0; i < entityCount; i++) {
+            relationFields.add(new ArrayList<>());
+        }
+
+        for (int i = 0; i < entityCount; i++) {
+            for (int j = i + 1; j <= Math.min(i + RELATIONS_PER_ENTITY, entityCount - 1); j++) {
+                if (j == i + 1) {
+                    relationFields.get(i).add(String.format("Entity%d? entity%dRef;", j, j));
+                } else {
+                    relationFields.get(i).add(String.format("Entity%d[] entity%dList;", j, j));
+                }
+                relationFields.get(j).add(String.format("Entity%d entity%dOwner;", i, i));
+            }
+        }
+
+        StringBuilder model = new StringBuilder("import ballerina/persist as _;\nimport ballerina/time;\n");
+        for (int i = 0; i < entityCount; i++) {
+            model.append(String.format("%npublic type Entity%d record {|%n", i))
+                    .append("    readonly int id;\n")
+                    .append("    string name;\n")
+                    .append("    decimal amount;\n")
+                    .append("    time:Date createdDate;\n")
+                    .append("    string? description;\n");
+            for (String relationField : relationFields.get(i)) {
+                model.append("    ").append(relationField).append('\n');
+            }
+            model.append("|};\n");
+        }
+        return model.toString();
+    }
+
+    private static class Measurement {
+        private final double millis;
+        private final double megabytes;
+
+        Measurement(double millis, double megabytes) {
+            this.millis = millis;
+            this.megabytes = megabytes;
+        }
+    }
+}
@@ -16,8 +16,13 @@ public isolated client class Client {
 
     private final mysql:Client dbClient;
 
+    // the persist clients are looked up by the native processors of the `get` resources
     private final map<persist:SQLClient> persistClients;
 
+    private final persist:SQLClient medicalItemClient;
+
+    private final persist:SQLClient medicalNeedClient;
+
     private final record {|persist:SQLMetadata...;|} & readonly metadata = {
         [MEDICAL_ITEM] : {
             entityName: "MedicalItem",
@@ -45,14 +50,16 @@ public isolated client class Client {
     };
 
     public isolated function init() returns persist:Error? {
-        mysql:Client|error dbClient = new (host = host, user = user, password = password, database = database, port = port, options = connectionOptions);
+        mysql:Client|error dbClient = new (host = host, user = user, password = password, database = database, port = port, options = connectionOptions, connectionPool = connectionPool);
         if dbClient is error {
             return <persist:Error>error(dbClient.message());
         }
         self.dbClient = dbClient;
+        self.medicalItemClient = check new (dbClient, self.metadata.get(MEDICAL_ITEM));
+        self.medicalNeedClient = check new (dbClient, self.metadata.get(MEDICAL_NEED));
         self.persistClients = {
-            [MEDICAL_ITEM] : check new (dbClient, self.metadata.get(MEDICAL_ITEM)),
-            [MEDICAL_NEED] : check new (dbClient, self.metadata.get(MEDICAL_NEED))
+            [MEDICAL_ITEM] : self.medicalItemClient,
+            [MEDICAL_NEED] : self.medicalNeedClient
         };
     }
 
@@ -67,30 +74,21 @@ public isolated client class Client {
     } external;
 
     isolated resource function post medicalitems(MedicalItemInsert[] data) returns int[]|persist:Error {
-        persist:SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(MEDICAL_ITEM);
-        }
+        persist:SQLClient sqlClient = self.medicalItemClient;
         _ = check sqlClient.runBatchInsertQuery(data);
         return from MedicalItemInsert inserted in data
             select inserted.itemId;
     }
 
     isolated resource function put medicalitems/[int itemId](MedicalItemUpdate value) returns MedicalItem|persist:Error {
-        persist:SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(MEDICAL_ITEM);
-        }
+        persist:SQLClient sqlClient = self.medicalItemClient;
         _ = check sqlClient.runUpdateQuery(itemId, value);
         return self->/medicalitems/[itemId].get();
     }
 
     isolated resource function delete medicalitems/[int itemId]() returns MedicalItem|persist:Error {
         MedicalItem result = check self->/medicalitems/[itemId].get();
-        persist:SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(MEDICAL_ITEM);
-        }
+        persist:SQLClient sqlClient = self.medicalItemClient;
         _ = check sqlClient.runDeleteQuery(itemId);
         return result;
     }
@@ -106,36 +104,37 @@ public isolated client class Client {
     } external;
 
     isolated resource function post medicalneeds(MedicalNeedInsert[] data) returns int[]|persist:Error {
-        persist:SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(MEDICAL_NEED);
-        }
+        persist:SQLClient sqlClient = self.medicalNeedClient;
         _ = check sqlClient.runBatchInsertQuery(data);
         return from MedicalNeedInsert inserted in data
             select inserted.needId;
     }
 
     isolated resource function put medicalneeds/[int needId](MedicalNeedUpdate value) returns MedicalNeed|persist:Error {
-        persist:SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(MEDICAL_NEED);
-        }
+        persist:SQLClient sqlClient = self.medicalNeedClient;
         _ = check sqlClient.runUpdateQuery(needId, value);
         return self->/medicalneeds/[needId].get();
     }
 
     isolated resource function delete medicalneeds/[int needId]() returns MedicalNeed|persist:Error {
         MedicalNeed result = check self->/medicalneeds/[needId].get();
-        persist:SQLClient sqlClient;
-        lock {
-            sqlClient = self.persistClients.get(MEDICAL_NEED);
-        }
+        persist:SQLClient sqlClient = self.medicalNeedClient;
         _ = check sqlClient.runDeleteQuery(needId);
         return result;
     }
 
     public isolated function close() returns persist:Error? {
+        // all the clients are closed, even if some of them fail to close, and the first failure is returned
+        persist:Error?[] results = [
+            self.medicalItemClient.close(),
+            self.medicalNeedClient.close()
+        ];
         error? result = self.dbClient.close();
+        foreach persist:Error? entityResult in results {
+            if entityResult is persist:Error {
+                return entityResult;
+            }
+        }
         if result is error {
             return <persist:Error>error(result.message());
         }
@@ -3,6 +3,7 @@
 // This file is an auto-generated file by Ballerina persistence layer.
 // It should not be modified by hand.
 
+import ballerina/sql;
 import ballerinax/mysql;
 
 configurable int port = ?;
@@ -11,4 +12,5 @@ configurable string user = ?;
 configurable string database = ?;
 configurable string password = ?;
 configurable mysql:Options & readonly connectionOptions = {};
+configurable sql:ConnectionPool & readonly connectionPool = {};
 
@@ -0,0 +1,167 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/io;
+import ballerina/persist;
+import ballerina/random;
+import ballerina/time;
+
+configurable int datasetSize = 10000;
+configurable int concurrency = 8;
+configurable int operationsPerStrand = 1000;
+configurable int readAllOperationsPerStrand = 5;
+configurable int batchSize = 10;
+
+const DEPARTMENT_COUNT = 10;
+const BUILDING_COUNT = 10;
+const WORKSPACE_COUNT = 100;
+const SEED_BATCH_SIZE = 1000;
+
+# Represents a single operation of the load test.
+type Operation isolated function (RainierClient rainierClient, int strand, int iteration) returns error?;
+
+public function main() returns error? {
+    RainierClient rainierClient = check new ();
+    check seed(rainierClient);
+
+    io:println(string `dataset size: ${datasetSize}, concurrency: ${concurrency}`);
+    io:println(string `${"operation".padEnd(20)}${"count".padStart(10)}${"ops/sec".padStart(12)}${"p50 (ms)".padStart(12)}${"p99 (ms)".padStart(12)}`);
+    check run("get by key", rainierClient, operationsPerStrand, getByKey);
+    check run("get all (includes)", rainierClient, readAllOperationsPerStrand, getAllWithIncludes);
+    check run("batch insert", rainierClient, operationsPerStrand, batchInsert);
+    check run("update", rainierClient, operationsPerStrand, updateEmployee);
+    // deletes the order items inserted by the batch insert operations
+    check run("delete", rainierClient, operationsPerStrand, deleteOrderItem);
+
+    check rainierClient.close();
+}
+
+function run(string name, RainierClient rainierClient, int iterations, Operation operation) returns error? {
+    decimal startTime = time:monotonicNow();
+    future<decimal[]|error>[] strands = [];
+    foreach int strand in 0 ..< concurrency {
+        strands.push(start measure(rainierClient, strand, iterations, operation));
+    }
+
+    decimal[] latencies = [];
+    foreach future<decimal[]|error> strand in strands {
+        latencies.push(...check wait strand);
+    }
+    report(name, latencies, time:monotonicNow() - startTime);
+}
+
+isolated function measure(RainierClient rainierClient, int strand, int iterations, Operation operation) returns decimal[]|error {
+    decimal[] latencies = [];
+    foreach int iteration in 0 ..< iterations {
+        decimal startTime = time:monotonicNow();
+        check operation(rainierClient, strand, iteration);
+        latencies.push(time:monotonicNow() - startTime);
+    }
+    return latencies;
+}
+
+function report(string name, decimal[] latencies, decimal elapsed) {
+    decimal[] sorted = latencies.sort();
+    int count = sorted.length();
+    decimal throughput = elapsed > 0d ? (<decimal>count / elapsed).round(1) : 0;
+    io:println(string `${name.padEnd(20)}${count.toString().padStart(10)}${throughput.toString().padStart(12)}${
+        getPercentile(sorted, 0.50).toString().padStart(12)}${getPercentile(sorted, 0.99).toString().padStart(12)}`);
+}
+
+isolated function getPercentile(decimal[] sorted, decimal percentile) returns decimal {
+    if sorted.length() == 0 {
+        return 0;
+    }
+    int index = <int>(<decimal>(sorted.length() - 1) * percentile).round();
+    return (sorted[index] * 1000).round(3);
+}
+
+isolated function getByKey(RainierClient rainierClient, int strand, int iteration) returns error? {
+    Employee _ = check rainierClient->/employees/[getEmployeeNo(check random:createIntInRange(0, datasetSize))].get();
+}
+
+isolated function getAllWithIncludes(RainierClient rainierClient, int strand, int iteration) returns error? {
+    stream<EmployeeWithRelations, persist:Error?> employees = rainierClient->/employees.get();
+    record {|EmployeeWithRelations value;|}? next = check employees.next();
+    while next !is () {
+        next = check employees.next();
+    }
+}
+
+isolated function batchInsert(RainierClient rainierClient, int strand, int iteration) returns error? {
+    OrderItemInsert[] orderItems = from int i in 0 ..< batchSize
+        select {
+            orderId: string `load-${strand}`,
+            itemId: string `${iteration}-${i}`,
+            quantity: i,
+            notes: "load test"
+        };
+    _ = check rainierClient->/orderitems.post(orderItems);
+}
+
+isolated function updateEmployee(RainierClient rainierClient, int strand, int iteration) returns error? {
+    _ = check rainierClient->/employees/[getEmployeeNo(check random:createIntInRange(0, datasetSize))].put({
+        firstName: string `Updated ${strand}-${iteration}`
+    });
+}
+
+isolated function deleteOrderItem(RainierClient rainierClient, int strand, int iteration) returns error? {
+    _ = check rainierClient->/orderitems/[string `load-${strand}`]/[string `${iteration}-0`].delete();
+}
+
+function seed(RainierClient rainierClient) returns error? {
+    _ = check rainierClient->/departments.post(from int i in 0 ..< DEPARTMENT_COUNT
+        select {deptNo: string `dept-${i}`, deptName: string `Department ${i}`});
+
+    _ = check rainierClient->/buildings.post(from int i in 0 ..< BUILDING_COUNT
+        select {
+            buildingCode: string `building-${i}`,
+            city: "Colombo",
+            state: "Western Province",
+            country: "Sri Lanka",
+            postalCode: "10370",
+            'type: "owned"
+        });
+
+    _ = check rainierClient->/workspaces.post(from int i in 0 ..< WORKSPACE_COUNT
+        select {
+            workspaceId: string `workspace-${i}`,
+            workspaceType: "small",
+            locationBuildingCode: string `building-${i % BUILDING_COUNT}`
+        });
+
+    int offset = 0;
+    while offset < datasetSize {
+        int batchEnd = int:min(offset + SEED_BATCH_SIZE, datasetSize);
+        _ = check rainierClient->/employees.post(from int i in offset ..< batchEnd
+            select {
+                empNo: getEmployeeNo(i),
+                firstName: "Tom",
+                lastName: string `Employee ${i}`,
+                birthDate: {year: 1992, month: 11, day: 13},
+                gender: MALE,
+                hireDate: {year: 2022, month: 8, day: 1},
+                departmentDeptNo: string `dept-${i % DEPARTMENT_COUNT}`,
+                workspaceWorkspaceId: string `workspace-${i % WORKSPACE_COUNT}`
+            });
+        offset = batchEnd;
+    }
+}
+
+isolated function getEmployeeNo(int index) returns string {
+    return string `employee-${index}`;
+}
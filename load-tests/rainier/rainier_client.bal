@@ -0,0 +1,340 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/persist;
+import ballerinax/java.jdbc;
+
+const EMPLOYEE = "employees";
+const WORKSPACE = "workspaces";
+const BUILDING = "buildings";
+const DEPARTMENT = "departments";
+const ORDER_ITEM = "orderitems";
+
+# The rainier client generated for MySQL, which is adapted to use a JDBC client so that it can be run
+# against the embedded H2 database in the MySQL compatibility mode.
+public isolated client class RainierClient {
+    *persist:AbstractPersistClient;
+
+    private final jdbc:Client dbClient;
+
+    // the persist clients are looked up by the native processors of the `get` resources
+    private final map<persist:SQLClient> persistClients;
+
+    private final persist:SQLClient employeeClient;
+
+    private final persist:SQLClient workspaceClient;
+
+    private final persist:SQLClient buildingClient;
+
+    private final persist:SQLClient departmentClient;
+
+    private final persist:SQLClient orderItemClient;
+
+    private final record {|persist:SQLMetadata...;|} & readonly metadata = {
+        [EMPLOYEE] : {
+            entityName: "Employee",
+            tableName: "Employee",
+            fieldMetadata: {
+                empNo: {columnName: "empNo"},
+                firstName: {columnName: "firstName"},
+                lastName: {columnName: "lastName"},
+                birthDate: {columnName: "birthDate"},
+                gender: {columnName: "gender"},
+                hireDate: {columnName: "hireDate"},
+                departmentDeptNo: {columnName: "departmentDeptNo"},
+                workspaceWorkspaceId: {columnName: "workspaceWorkspaceId"},
+                "department.deptNo": {relation: {entityName: "department", refField: "deptNo"}},
+                "department.deptName": {relation: {entityName: "department", refField: "deptName"}},
+                "workspace.workspaceId": {relation: {entityName: "workspace", refField: "workspaceId"}},
+                "workspace.workspaceType": {relation: {entityName: "workspace", refField: "workspaceType"}},
+                "workspace.locationBuildingCode": {relation: {entityName: "workspace", refField: "locationBuildingCode"}}
+            },
+            keyFields: ["empNo"],
+            joinMetadata: {
+                department: {entity: Department, fieldName: "department", refTable: "Department", refColumns: ["deptNo"], joinColumns: ["departmentDeptNo"], 'type: persist:ONE_TO_MANY},
+                workspace: {entity: Workspace, fieldName: "workspace", refTable: "Workspace", refColumns: ["workspaceId"], joinColumns: ["workspaceWorkspaceId"], 'type: persist:ONE_TO_MANY}
+            }
+        },
+        [WORKSPACE] : {
+            entityName: "Workspace",
+            tableName: "Workspace",
+            fieldMetadata: {
+                workspaceId: {columnName: "workspaceId"},
+                workspaceType: {columnName: "workspaceType"},
+                locationBuildingCode: {columnName: "locationBuildingCode"},
+                "location.buildingCode": {relation: {entityName: "location", refField: "buildingCode"}},
+                "location.city": {relation: {entityName: "location", refField: "city"}},
+                "location.state": {relation: {entityName: "location", refField: "state"}},
+                "location.country": {relation: {entityName: "location", refField: "country"}},
+                "location.postalCode": {relation: {entityName: "location", refField: "postalCode"}},
+                "location.type": {relation: {entityName: "location", refField: "type"}},
+                "employees[].empNo": {relation: {entityName: "employees", refField: "empNo"}},
+                "employees[].firstName": {relation: {entityName: "employees", refField: "firstName"}},
+                "employees[].lastName": {relation: {entityName: "employees", refField: "lastName"}},
+                "employees[].birthDate": {relation: {entityName: "employees", refField: "birthDate"}},
+                "employees[].gender": {relation: {entityName: "employees", refField: "gender"}},
+                "employees[].hireDate": {relation: {entityName: "employees", refField: "hireDate"}},
+                "employees[].departmentDeptNo": {relation: {entityName: "employees", refField: "departmentDeptNo"}},
+                "employees[].workspaceWorkspaceId": {relation: {entityName: "employees", refField: "workspaceWorkspaceId"}}
+            },
+            keyFields: ["workspaceId"],
+            joinMetadata: {
+                location: {entity: Building, fieldName: "location", refTable: "Building", refColumns: ["buildingCode"], joinColumns: ["locationBuildingCode"], 'type: persist:ONE_TO_MANY},
+                employees: {entity: Employee, fieldName: "employees", refTable: "Employee", refColumns: ["workspaceWorkspaceId"], joinColumns: ["workspaceId"], 'type: persist:MANY_TO_ONE}
+            }
+        },
+        [BUILDING] : {
+            entityName: "Building",
+            tableName: "Building",
+            fieldMetadata: {
+                buildingCode: {columnName: "buildingCode"},
+                city: {columnName: "city"},
+                state: {columnName: "state"},
+                country: {columnName: "country"},
+                postalCode: {columnName: "postalCode"},
+                'type: {columnName: "type"},
+                "workspaces[].workspaceId": {relation: {entityName: "workspaces", refField: "workspaceId"}},
+                "workspaces[].workspaceType": {relation: {entityName: "workspaces", refField: "workspaceType"}},
+                "workspaces[].locationBuildingCode": {relation: {entityName: "location", refField: "locationBuildingCode"}}
+            },
+            keyFields: ["buildingCode"],
+            joinMetadata: {workspaces: {entity: Workspace, fieldName: "workspaces", refTable: "Workspace", refColumns: ["locationBuildingCode"], joinColumns: ["buildingCode"], 'type: persist:MANY_TO_ONE}}
+        },
+        [DEPARTMENT] : {
+            entityName: "Department",
+            tableName: "Department",
+            fieldMetadata: {
+                deptNo: {columnName: "deptNo"},
+                deptName: {columnName: "deptName"},
+                "employees[].empNo": {relation: {entityName: "employees", refField: "empNo"}},
+                "employees[].firstName": {relation: {entityName: "employees", refField: "firstName"}},
+                "employees[].lastName": {relation: {entityName: "employees", refField: "lastName"}},
+                "employees[].birthDate": {relation: {entityName: "employees", refField: "birthDate"}},
+                "employees[].gender": {relation: {entityName: "employees", refField: "gender"}},
+                "employees[].hireDate": {relation: {entityName: "employees", refField: "hireDate"}},
+                "employees[].departmentDeptNo": {relation: {entityName: "employees", refField: "departmentDeptNo"}},
+                "employees[].workspaceWorkspaceId": {relation: {entityName: "employees", refField: "workspaceWorkspaceId"}}
+            },
+            keyFields: ["deptNo"],
+            joinMetadata: {employees: {entity: Employee, fieldName: "employees", refTable: "Employee", refColumns: ["departmentDeptNo"], joinColumns: ["deptNo"], 'type: persist:MANY_TO_ONE}}
+        },
+        [ORDER_ITEM] : {
+            entityName: "OrderItem",
+            tableName: "OrderItem",
+            fieldMetadata: {
+                orderId: {columnName: "orderId"},
+                itemId: {columnName: "itemId"},
+                quantity: {columnName: "quantity"},
+                notes: {columnName: "notes"}
+            },
+            keyFields: ["orderId", "itemId"]
+        }
+    };
+
+    public isolated function init() returns persist:Error? {
+        jdbc:Client|error dbClient = new (url, user, password, connectionPool = {maxOpenConnections});
+        if dbClient is error {
+            return <persist:Error>error(dbClient.message());
+        }
+        self.dbClient = dbClient;
+
+        self.employeeClient = check new (dbClient, self.metadata.get(EMPLOYEE));
+        self.workspaceClient = check new (dbClient, self.metadata.get(WORKSPACE));
+        self.buildingClient = check new (dbClient, self.metadata.get(BUILDING));
+        self.departmentClient = check new (dbClient, self.metadata.get(DEPARTMENT));
+        self.orderItemClient = check new (dbClient, self.metadata.get(ORDER_ITEM));
+        self.persistClients = {
+            [EMPLOYEE] : self.employeeClient,
+            [WORKSPACE] : self.workspaceClient,
+            [BUILDING] : self.buildingClient,
+            [DEPARTMENT] : self.departmentClient,
+            [ORDER_ITEM] : self.orderItemClient
+        };
+    }
+
+    isolated resource function get employees(EmployeeTargetType targetType = <>) returns stream<targetType, persist:Error?> = @java:Method {
+        'class: "io.ballerina.stdlib.persist.datastore.MySQLProcessor",
+        name: "query"
+    } external;
+
+    isolated resource function get employees/[string empNo](EmployeeTargetType targetType = <>) returns targetType|persist:Error = @java:Method {
+        'class: "io.ballerina.stdlib.persist.datastore.MySQLProcessor",
+        name: "queryOne"
+    } external;
+
+    isolated resource function post employees(EmployeeInsert[] data) returns string[]|persist:Error {
+        persist:SQLClient sqlClient = self.employeeClient;
+        _ = check sqlClient.runBatchInsertQuery(data);
+        return from EmployeeInsert inserted in data
+            select inserted.empNo;
+    }
+
+    isolated resource function put employees/[string empNo](EmployeeUpdate value) returns Employee|persist:Error {
+        persist:SQLClient sqlClient = self.employeeClient;
+        _ = check sqlClient.runUpdateQuery(empNo, value);
+        return self->/employees/[empNo].get();
+    }
+
+    isolated resource function delete employees/[string empNo]() returns Employee|persist:Error {
+        Employee result = check self->/employees/[empNo].get();
+        persist:SQLClient sqlClient = self.employeeClient;
+        _ = check sqlClient.runDeleteQuery(empNo);
+        return result;
+    }
+
+    isolated resource function get workspaces(WorkspaceTargetType targetType = <>) returns stream<targetType, persist:Error?> = @java:Method {
+        'class: "io.ballerina.stdlib.persist.datastore.MySQLProcessor",
+        name: "query"
+    } external;
+
+    isolated resource function get workspaces/[string workspaceId](WorkspaceTargetType targetType = <>) returns targetType|persist:Error = @java:Method {
+        'class: "io.ballerina.stdlib.persist.datastore.MySQLProcessor",
+        name: "queryOne"
+    } external;
+
+    isolated resource function post workspaces(WorkspaceInsert[] data) returns string[]|persist:Error {
+        persist:SQLClient sqlClient = self.workspaceClient;
+        _ = check sqlClient.runBatchInsertQuery(data);
+        return from WorkspaceInsert inserted in data
+            select inserted.workspaceId;
+    }
+
+    isolated resource function put workspaces/[string workspaceId](WorkspaceUpdate value) returns Workspace|persist:Error {
+        persist:SQLClient sqlClient = self.workspaceClient;
+        _ = check sqlClient.runUpdateQuery(workspaceId, value);
+        return self->/workspaces/[workspaceId].get();
+    }
+
+    isolated resource function delete workspaces/[string workspaceId]() returns Workspace|persist:Error {
+        Workspace result = check self->/workspaces/[workspaceId].get();
+        persist:SQLClient sqlClient = self.workspaceClient;
+        _ = check sqlClient.runDeleteQuery(workspaceId);
+        return result;
+    }
+
+    isolated resource function get buildings(BuildingTargetType targetType = <>) returns stream<targetType, persist:Error?> = @java:Method {
+        'class: "io.ballerina.stdlib.persist.datastore.MySQLProcessor",
+        name: "query"
+    } external;
+
+    isolated resource function get buildings/[string buildingCode](BuildingTargetType targetType = <>) returns targetType|persist:Error = @java:Method {
+        'class: "io.ballerina.stdlib.persist.datastore.MySQLProcessor",
+        name: "queryOne"
+    } external;
+
+    isolated resource function post buildings(BuildingInsert[] data) returns string[]|persist:Error {
+        persist:SQLClient sqlClient = self.buildingClient;
+        _ = check sqlClient.runBatchInsertQuery(data);
+        return from BuildingInsert inserted in data
+            select inserted.buildingCode;
+    }
+
+    isolated resource function put buildings/[string buildingCode](BuildingUpdate value) returns Building|persist:Error {
+        persist:SQLClient sqlClient = self.buildingClient;
+        _ = check sqlClient.runUpdateQuery(buildingCode, value);
+        return self->/buildings/[buildingCode].get();
+    }
+
+    isolated resource function delete buildings/[string buildingCode]() returns Building|persist:Error {
+        Building result = check self->/buildings/[buildingCode].get();
+        persist:SQLClient sqlClient = self.buildingClient;
+        _ = check sqlClient.runDeleteQuery(buildingCode);
+        return result;
+    }
+
+    isolated resource function get departments(DepartmentTargetType targetType = <>) returns stream<targetType, persist:Error?> = @java:Method {
+        'class: "io.ballerina.stdlib.persist.datastore.MySQLProcessor",
+        name: "query"
+    } external;
+
+    isolated resource function get departments/[string deptNo](DepartmentTargetType targetType = <>) returns targetType|persist:Error = @java:Method {
+        'class: "io.ballerina.stdlib.persist.datastore.MySQLProcessor",
+        name: "queryOne"
+    } external;
+
+    isolated resource function post departments(DepartmentInsert[] data) returns string[]|persist:Error {
+        persist:SQLClient sqlClient = self.departmentClient;
+        _ = check sqlClient.runBatchInsertQuery(data);
+        return from DepartmentInsert inserted in data
+            select inserted.deptNo;
+    }
+
+    isolated resource function put departments/[string deptNo](DepartmentUpdate value) returns Department|persist:Error {
+        persist:SQLClient sqlClient = self.departmentClient;
+        _ = check sqlClient.runUpdateQuery(deptNo, value);
+        return self->/departments/[deptNo].get();
+    }
+
+    isolated resource function delete departments/[string deptNo]() returns Department|persist:Error {
+        Department result = check self->/departments/[deptNo].get();
+        persist:SQLClient sqlClient = self.departmentClient;
+        _ = check sqlClient.runDeleteQuery(deptNo);
+        return result;
+    }
+
+    isolated resource function get orderitems(OrderItemTargetType targetType = <>) returns stream<targetType, persist:Error?> = @java:Method {
+        'class: "io.ballerina.stdlib.persist.datastore.MySQLProcessor",
+        name: "query"
+    } external;
+
+    isolated resource function get orderitems/[string orderId]/[string itemId](OrderItemTargetType targetType = <>) returns targetType|persist:Error = @java:Method {
+        'class: "io.ballerina.stdlib.persist.datastore.MySQLProcessor",
+        name: "queryOne"
+    } external;
+
+    isolated resource function post orderitems(OrderItemInsert[] data) returns [string, string][]|persist:Error {
+        persist:SQLClient sqlClient = self.orderItemClient;
+        _ = check sqlClient.runBatchInsertQuery(data);
+        return from OrderItemInsert inserted in data
+            select [inserted.orderId, inserted.itemId];
+    }
+
+    isolated resource function put orderitems/[string orderId]/[string itemId](OrderItemUpdate value) returns OrderItem|persist:Error {
+        persist:SQLClient sqlClient = self.orderItemClient;
+        _ = check sqlClient.runUpdateQuery({"orderId": orderId, "itemId": itemId}, value);
+        return self->/orderitems/[orderId]/[itemId].get();
+    }
+
+    isolated resource function delete orderitems/[string orderId]/[string itemId]() returns OrderItem|persist:Error {
+        OrderItem result = check self->/orderitems/[orderId]/[itemId].get();
+        persist:SQLClient sqlClient = self.orderItemClient;
+        _ = check sqlClient.runDeleteQuery({"orderId": orderId, "itemId": itemId});
+        return result;
+    }
+
+    public isolated function close() returns persist:Error? {
+        // all the clients are closed, even if some of them fail to close, and the first failure is returned
+        persist:Error?[] results = [
+            self.employeeClient.close(),
+            self.workspaceClient.close(),
+            self.buildingClient.close(),
+            self.departmentClient.close(),
+            self.orderItemClient.close()
+        ];
+        error? result = self.dbClient.close();
+        foreach persist:Error? entityResult in results {
+            if entityResult is persist:Error {
+                return entityResult;
+            }
+        }
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
+        return result;
+    }
+}
+
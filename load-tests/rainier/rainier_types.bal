@@ -0,0 +1,173 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/time;
+
+public enum Gender {
+    MALE,
+    FEMALE
+}
+
+public type Employee record {|
+    readonly string empNo;
+    string firstName;
+    string lastName;
+    time:Date birthDate;
+    Gender gender;
+    time:Date hireDate;
+    string departmentDeptNo;
+    string workspaceWorkspaceId;
+|};
+
+public type EmployeeOptionalized record {|
+    string empNo?;
+    string firstName?;
+    string lastName?;
+    time:Date birthDate?;
+    Gender gender?;
+    time:Date hireDate?;
+    string departmentDeptNo?;
+    string workspaceWorkspaceId?;
+|};
+
+public type EmployeeWithRelations record {|
+    *EmployeeOptionalized;
+    DepartmentOptionalized department?;
+    WorkspaceOptionalized workspace?;
+|};
+
+public type EmployeeTargetType typedesc<EmployeeWithRelations>;
+
+public type EmployeeInsert Employee;
+
+public type EmployeeUpdate record {|
+    string firstName?;
+    string lastName?;
+    time:Date birthDate?;
+    Gender gender?;
+    time:Date hireDate?;
+    string departmentDeptNo?;
+    string workspaceWorkspaceId?;
+|};
+
+public type Workspace record {|
+    readonly string workspaceId;
+    string workspaceType;
+    string locationBuildingCode;
+|};
+
+public type WorkspaceOptionalized record {|
+    string workspaceId?;
+    string workspaceType?;
+    string locationBuildingCode?;
+|};
+
+public type WorkspaceWithRelations record {|
+    *WorkspaceOptionalized;
+    BuildingOptionalized location?;
+    EmployeeOptionalized[] employees?;
+|};
+
+public type WorkspaceTargetType typedesc<WorkspaceWithRelations>;
+
+public type WorkspaceInsert Workspace;
+
+public type WorkspaceUpdate record {|
+    string workspaceType?;
+    string locationBuildingCode?;
+|};
+
+public type Building record {|
+    readonly string buildingCode;
+    string city;
+    string state;
+    string country;
+    string postalCode;
+    string 'type;
+|};
+
+public type BuildingOptionalized record {|
+    string buildingCode?;
+    string city?;
+    string state?;
+    string country?;
+    string postalCode?;
+    string 'type?;
+|};
+
+public type BuildingWithRelations record {|
+    *BuildingOptionalized;
+    WorkspaceOptionalized[] workspaces?;
+|};
+
+public type BuildingTargetType typedesc<BuildingWithRelations>;
+
+public type BuildingInsert Building;
+
+public type BuildingUpdate record {|
+    string city?;
+    string state?;
+    string country?;
+    string postalCode?;
+    string 'type?;
+|};
+
+public type Department record {|
+    readonly string deptNo;
+    string deptName;
+|};
+
+public type DepartmentOptionalized record {|
+    string deptNo?;
+    string deptName?;
+|};
+
+public type DepartmentWithRelations record {|
+    *DepartmentOptionalized;
+    EmployeeOptionalized[] employees?;
+|};
+
+public type DepartmentTargetType typedesc<DepartmentWithRelations>;
+
+public type DepartmentInsert Department;
+
+public type DepartmentUpdate record {|
+    string deptName?;
+|};
+
+public type OrderItem record {|
+    readonly string orderId;
+    readonly string itemId;
+    int quantity;
+    string notes;
+|};
+
+public type OrderItemOptionalized record {|
+    string orderId?;
+    string itemId?;
+    int quantity?;
+    string notes?;
+|};
+
+public type OrderItemTargetType typedesc<OrderItemOptionalized>;
+
+public type OrderItemInsert OrderItem;
+
+public type OrderItemUpdate record {|
+    int quantity?;
+    string notes?;
+|};
+
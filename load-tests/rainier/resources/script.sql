@@ -0,0 +1,44 @@
+-- The rainier model (see ballerina/tests/resources/sql-scripts/init.sql) for H2 in the MySQL compatibility mode.
+-- The script is run for each new connection, hence the statements are idempotent.
+
+CREATE TABLE IF NOT EXISTS Building (
+    buildingCode VARCHAR(36) PRIMARY KEY,
+    city VARCHAR(50),
+    state VARCHAR(50),
+    country VARCHAR(50),
+    postalCode VARCHAR(50),
+    type VARCHAR(50)
+);
+
+CREATE TABLE IF NOT EXISTS Workspace (
+    workspaceId VARCHAR(36) PRIMARY KEY,
+    workspaceType VARCHAR(10),
+    locationBuildingCode VARCHAR(36),
+    FOREIGN KEY (locationBuildingCode) REFERENCES Building(buildingCode)
+);
+
+CREATE TABLE IF NOT EXISTS Department (
+    deptNo VARCHAR(36) PRIMARY KEY,
+    deptName VARCHAR(30)
+);
+
+CREATE TABLE IF NOT EXISTS Employee (
+    empNo VARCHAR(36) PRIMARY KEY,
+    firstName VARCHAR(30),
+    lastName VARCHAR(30),
+    birthDate DATE,
+    gender ENUM('MALE', 'FEMALE') NOT NULL,
+    hireDate DATE,
+    departmentDeptNo VARCHAR(36),
+    workspaceWorkspaceId VARCHAR(36),
+    FOREIGN KEY (departmentDeptNo) REFERENCES Department(deptNo),
+    FOREIGN KEY (workspaceWorkspaceId) REFERENCES Workspace(workspaceId)
+);
+
+CREATE TABLE IF NOT EXISTS OrderItem (
+    orderId VARCHAR(36),
+    itemId VARCHAR(30),
+    quantity INTEGER,
+    notes VARCHAR(255),
+    PRIMARY KEY(orderId, itemId)
+);
@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.persist.benchmarks;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.persist.cache.EntityCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+
+/**
+ * Benchmarks the {@link EntityCache} operations performed by the `get`-by-key operations of the SQL client.
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EntityCacheBenchmark {
+
+    @Param({"1000", "100000"})
+    public int capacity;
+
+    private EntityCache cache;
+    private BString[] keys;
+    private final BString projection = fromString("deptNo,deptName|");
+    private final BString value = fromString("value");
+
+    @Setup
+    public void setup() {
+        cache = new EntityCache(capacity, ValueCreator.createDecimalValue(BigDecimal.valueOf(-1)));
+        keys = new BString[capacity];
+        for (int i = 0; i < capacity; i++) {
+            keys[i] = fromString("[\"key-" + i + "\"]");
+            cache.put(keys[i], projection, value, cache.startLoad());
+        }
+    }
+
+    /**
+     * The position of a benchmark thread in the key space.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        int next(int bound) {
+            next = (next + 1) % bound;
+            return next;
+        }
+    }
+
+    @Benchmark
+    public Object get(Cursor cursor) {
+        return cache.get(keys[cursor.next(capacity)], projection);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object getContended(Cursor cursor) {
+        return cache.get(keys[cursor.next(capacity)], projection);
+    }
+
+    @Benchmark
+    public Object invalidateAndLoad(Cursor cursor) {
+        BString key = keys[cursor.next(capacity)];
+        cache.invalidate(key);
+        cache.put(key, projection, value, cache.startLoad());
+        return cache.get(key, projection);
+    }
+}
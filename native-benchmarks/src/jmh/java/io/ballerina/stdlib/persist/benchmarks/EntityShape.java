@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.persist.benchmarks;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.TypeFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BTypedesc;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+
+/**
+ * The entity shapes the benchmarks are run against.
+ * <ul>
+ *     <li>narrow - an entity with a single key field and a few other fields</li>
+ *     <li>wide - an entity with a composite key and 40 other fields</li>
+ *     <li>nested - an entity with a one-to-one and a one-to-many relation</li>
+ * </ul>
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+public class EntityShape {
+
+    private static final Module MODULE = new Module("ballerina", "persist_benchmarks", "1");
+    private static final int WIDE_ENTITY_FIELDS = 40;
+    private static final int RECORD_COUNT = 100;
+
+    @Param({"narrow", "wide", "nested"})
+    public String shape;
+
+    RecordType recordType;
+    BArray keyFields;
+    Parameter[] pathParameters;
+    BArray path;
+    BTypedesc typedesc;
+    BArray records;
+
+    @Setup
+    public void setup() {
+        List<String> keys = new ArrayList<>();
+        Map<String, Field> fields = new LinkedHashMap<>();
+        switch (shape) {
+            case "narrow":
+                keys.add("buildingCode");
+                addStringFields(fields, "buildingCode", "city", "state", "country", "postalCode");
+                recordType = createRecordType("Building", fields);
+                break;
+            case "wide":
+                keys.add("tenantId");
+                keys.add("id");
+                addStringFields(fields, "tenantId", "id");
+                for (int i = 0; i < WIDE_ENTITY_FIELDS; i++) {
+                    addStringFields(fields, "field" + i);
+                }
+                recordType = createRecordType("WideEntity", fields);
+                break;
+            case "nested":
+                keys.add("empNo");
+                addStringFields(fields, "empNo", "firstName", "lastName", "title");
+                Map<String, Field> departmentFields = new LinkedHashMap<>();
+                addStringFields(departmentFields, "deptNo", "deptName");
+                Map<String, Field> workspaceFields = new LinkedHashMap<>();
+                addStringFields(workspaceFields, "workspaceId", "workspaceType", "locationBuildingCode");
+                fields.put("department", TypeCreator.createField(
+                        createRecordType("Department", departmentFields), "department", 0));
+                fields.put("workspaces", TypeCreator.createField(TypeCreator.createArrayType(
+                        createRecordType("Workspace", workspaceFields)), "workspaces", 0));
+                recordType = createRecordType("Employee", fields);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown entity shape: " + shape);
+        }
+
+        ArrayType stringArrayType = TypeCreator.createArrayType(PredefinedTypes.TYPE_STRING);
+        keyFields = ValueCreator.createArrayValue(stringArrayType);
+        path = ValueCreator.createArrayValue(stringArrayType);
+        pathParameters = new Parameter[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            keyFields.append(fromString(keys.get(i)));
+            path.append(fromString("value-" + i));
+            pathParameters[i] = new Parameter(keys.get(i), false, PredefinedTypes.TYPE_STRING);
+        }
+
+        typedesc = ValueCreator.createTypedescValue(recordType);
+        records = ValueCreator.createArrayValue(TypeCreator.createArrayType(PredefinedTypes.TYPE_ANYDATA));
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            records.append(ValueCreator.createMapValue(recordType));
+        }
+    }
+
+    private static void addStringFields(Map<String, Field> fields, String... fieldNames) {
+        for (String fieldName : fieldNames) {
+            fields.put(fieldName, TypeCreator.createField(PredefinedTypes.TYPE_STRING, fieldName, 0));
+        }
+    }
+
+    private static RecordType createRecordType(String name, Map<String, Field> fields) {
+        return TypeCreator.createRecordType(name, MODULE, 0, fields, null, true,
+                TypeFlags.asMask(TypeFlags.ANYDATA, TypeFlags.PURETYPE));
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.persist.benchmarks;
+
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.stdlib.persist.Utils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the {@link Utils} methods invoked by the persist clients for every operation.
+ *
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UtilsBenchmark {
+
+    @Benchmark
+    public BArray[] getMetadata(EntityShape entity) {
+        return Utils.getMetadata(entity.recordType);
+    }
+
+    @Benchmark
+    public RecordType getRecordTypeWithKeyFields(EntityShape entity) {
+        return Utils.getRecordTypeWithKeyFields(entity.keyFields, entity.recordType);
+    }
+
+    @Benchmark
+    public BArray convertToArray(EntityShape entity) {
+        return Utils.convertToArray(entity.typedesc, entity.records);
+    }
+
+    @Benchmark
+    public Object getKey(EntityShape entity) {
+        return Utils.getKey(entity.pathParameters, entity.path);
+    }
+}
@@ -37,13 +37,27 @@ public final class Constants {
     public static final String PERSIST_IN_MEMORY_STREAM = "PersistInMemoryStream";
     public static final BString KEY_FIELDS = fromString("keyFields");
     public static final String ERROR = "Error";
+    public static final String CACHE_STATS = "CacheStats";
+    public static final String OPERATION_METRICS = "OperationMetrics";
+    public static final String CONNECTION_POOL_STATS = "ConnectionPoolStats";
+    public static final String ASYNC_WRITE_STATS = "AsyncWriteStats";
+    public static final BString ENTITY_NAME = fromString("entityName");
+    public static final BString READ_ALL_OPERATION = fromString("read_all");
+    public static final BString READ_BY_KEY_OPERATION = fromString("read_by_key");
+    public static final BString READ_BY_KEYS_OPERATION = fromString("read_by_keys");
 
     public static final String RUN_READ_QUERY_METHOD = "runReadQuery";
     public static final String RUN_READ_TABLE_AS_STREAM_METHOD = "readTableAsStream";
     public static final String RUN_READ_BY_KEY_QUERY_METHOD = "runReadByKeyQuery";
+    public static final String RUN_READ_BY_KEYS_QUERY_METHOD = "runReadByKeysQuery";
+    public static final String RUN_BATCH_INSERT_QUERY_WITH_RESULTS_METHOD = "runBatchInsertQueryWithResults";
     public static final Module BALLERINA_ANNOTATIONS_MODULE = new Module("ballerina", "lang.annotations", "0.0.0");
     public static final String DEFAULT_STREAM_CONSTRAINT_NAME = "$stream$anon$constraint$";
     public static final String CURRENT_TRANSACTION_CONTEXT = "currentTrxContext";
+    // the native data of an `sql:Client` holding its data source, and the private field of the data source holding
+    // the connection pool, which are internal to the sql module and hence may change across its versions
+    public static final String SQL_DATABASE_CLIENT = "DATABASE_CLIENT";
+    public static final String SQL_HIKARI_DATA_SOURCE_FIELD = "hikariDataSource";
 
     /**
      * Constant related to the Ballerina time types.
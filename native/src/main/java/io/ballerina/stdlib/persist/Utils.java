@@ -21,6 +21,7 @@ package io.ballerina.stdlib.persist;
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.PredefinedTypes;
 import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.flags.TypeFlags;
@@ -34,16 +35,29 @@ import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.UnionType;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
 import io.ballerina.runtime.transactions.TransactionResourceManager;
-
+import io.ballerina.stdlib.persist.metrics.PersistMetrics;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.text.Normalizer;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 import static io.ballerina.runtime.api.utils.StringUtils.fromString;
 
@@ -56,10 +70,94 @@ public class Utils {
     private static final List<String> KNOWN_RECORD_TYPES = Arrays.asList(
             Constants.TimeTypes.CIVIL, Constants.TimeTypes.DATE_RECORD, Constants.TimeTypes.TIME_RECORD,
             Constants.TimeTypes.UTC);
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}");
 
     private Utils() {
     }
 
+    /**
+     * Normalizes a string key value the way the case and accent insensitive collations of the database compare it,
+     * i.e., ignoring the case, the accents, and the trailing spaces.
+     *
+     * @param value the key value
+     * @return the normalized key value
+     */
+    public static BString normalizeKeyString(BString value) {
+        String decomposed = Normalizer.normalize(value.getValue(), Normalizer.Form.NFD);
+        return fromString(COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT).stripTrailing());
+    }
+
+    /**
+     * Retrieves the size of a file.
+     *
+     * @param path the path of the file
+     * @return the size of the file in bytes or an error if the file cannot be accessed
+     */
+    public static Object getFileSize(BString path) {
+        try {
+            return Files.size(Paths.get(path.getValue()));
+        } catch (IOException e) {
+            return ErrorCreator.createError(fromString(e.getMessage()));
+        }
+    }
+
+    /**
+     * Retrieves a key, which identifies a file, such that a file replaced at the same path has another key.
+     *
+     * @param path the path of the file
+     * @return the key of the file or an error if the file cannot be accessed
+     */
+    public static Object getFileKey(BString path) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(Paths.get(path.getValue()),
+                    BasicFileAttributes.class);
+            // the file systems without file keys (e.g. on Windows) identify a file by its creation time
+            Object fileKey = attributes.fileKey();
+            return fromString(fileKey != null ? fileKey.toString() : attributes.creationTime().toString());
+        } catch (IOException e) {
+            return ErrorCreator.createError(fromString(e.getMessage()));
+        }
+    }
+
+    /**
+     * Replaces a file with a new file of the given content. The new file is moved into place, so that the readers of
+     * the file observe either the former or the new file.
+     *
+     * @param path the path of the file
+     * @param content the content of the new file
+     * @return {@code null} or an error if the file cannot be replaced
+     */
+    public static Object replaceFile(BString path, BString content) {
+        Path target = Paths.get(path.getValue()).toAbsolutePath();
+        try {
+            Path replacement = Files.createTempFile(target.getParent(), target.getFileName().toString(), null);
+            Files.write(replacement, content.getValue().getBytes(StandardCharsets.UTF_8));
+            Files.move(replacement, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return null;
+        } catch (IOException e) {
+            return ErrorCreator.createError(fromString(e.getMessage()));
+        }
+    }
+
+    /**
+     * Reads a range of a file, so that the content appended to a file can be read without reading the whole file.
+     *
+     * @param path the path of the file
+     * @param offset the position of the first byte to be read
+     * @param length the number of bytes to be read
+     * @return the bytes read or an error if the file cannot be read
+     */
+    public static Object readFileRange(BString path, long offset, long length) {
+        try (RandomAccessFile file = new RandomAccessFile(path.getValue(), "r")) {
+            byte[] bytes = new byte[(int) length];
+            file.seek(offset);
+            file.readFully(bytes);
+            return ValueCreator.createArrayValue(bytes);
+        } catch (IOException e) {
+            return ErrorCreator.createError(fromString(e.getMessage()));
+        }
+    }
+
     public static BString getEntity(Environment env) {
         String entity = env.getFunctionName().split("\\$")[2];
         return fromString(entity);
@@ -171,7 +269,10 @@ public class Utils {
     }
 
     public static Object getKey(Environment env, BArray path) {
-        Parameter[] pathParams = env.getFunctionPathParameters();
+        return getKey(env.getFunctionPathParameters(), path);
+    }
+
+    public static Object getKey(Parameter[] pathParams, BArray path) {
         if (pathParams.length == 1) {
             return path.get(0);
         } else {
@@ -183,6 +284,49 @@ public class Utils {
         }
     }
 
+    /**
+     * Returns the keys of a batch read in the form accepted by the persist clients, i.e. the composite keys given as
+     * tuples are converted to maps of the key fields.
+     *
+     * @param keyFields the key fields of the entity
+     * @param keys      the keys given to the batch read
+     * @return the keys
+     */
+    public static BArray getKeys(BArray keyFields, BArray keys) {
+        BArray keyValues = ValueCreator.createArrayValue(TypeCreator.createArrayType(PredefinedTypes.TYPE_ANYDATA));
+        for (int i = 0; i < keys.size(); i++) {
+            Object key = keys.get(i);
+            if (keyFields.size() > 1 && key instanceof BArray) {
+                BArray keyTuple = (BArray) key;
+                BMap<BString, Object> keyMap = ValueCreator.createMapValue(
+                        TypeCreator.createMapType(PredefinedTypes.TYPE_ANYDATA));
+                for (int j = 0; j < keyFields.size(); j++) {
+                    keyMap.put(keyFields.getBString(j), keyTuple.get(j));
+                }
+                key = keyMap;
+            }
+            keyValues.append(key);
+        }
+        return keyValues;
+    }
+
+    /**
+     * Returns the result of a batch read as an array of the target type, with {@code ()} in place of the keys for
+     * which a record does not exist.
+     *
+     * @param recordType the target type
+     * @param records    the records retrieved by the persist client
+     * @return the array of the target type
+     */
+    public static BArray getNillableRecordArray(RecordType recordType, BArray records) {
+        BArray result = ValueCreator.createArrayValue(TypeCreator.createArrayType(
+                TypeCreator.createUnionType(recordType, PredefinedTypes.TYPE_NULL)));
+        for (int i = 0; i < records.size(); i++) {
+            result.append(records.get(i));
+        }
+        return result;
+    }
+
     public static RecordType getRecordTypeWithKeyFields(BArray keyFields, RecordType recordType) {
         Map<String, Field> fieldsMap = new HashMap<>();
         for (Field field : recordType.getFields().values()) {
@@ -250,6 +394,19 @@ public class Utils {
         return properties;
     }
 
+    public static void recordOperation(BObject persistClient, BString entity, BString operation, long startTime,
+                                       Object result) {
+        if (startTime == 0) {
+            return;
+        }
+
+        BString entityName = (BString) persistClient.get(Constants.ENTITY_NAME);
+        // the rows of a stream are recorded as they are converted to the target type
+        long rows = result instanceof BMap ? 1 : result instanceof BArray ? ((BArray) result).size() : 0;
+        PersistMetrics.record(entityName.getValue().isEmpty() ? entity : entityName, operation, startTime, rows,
+                result instanceof BError);
+    }
+
     private static boolean isEnumType(Type type) {
         return type.getTag() == TypeTags.UNION_TAG &&
                 ((UnionType) type).getMemberTypes().stream().allMatch(memberType ->
@@ -0,0 +1,211 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.persist.cache;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.persist.ModuleUtils;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static io.ballerina.stdlib.persist.Constants.CACHE_STATS;
+
+/**
+ * A bounded, size and age based cache of read-only values, keyed by the entity key. Each key holds the values
+ * retrieved for the different projections (field sets) of the entity.
+ * <p>
+ * Eviction follows the W-TinyLFU policy. New keys are admitted to a small LRU window, and a key evicted from the
+ * window only replaces the LRU victim of the main region if it has been accessed more frequently than the victim.
+ *
+ * @since 1.0.0
+ */
+public class EntityCache {
+
+    private static final int WINDOW_PERCENTAGE = 1;
+
+    private final int windowCapacity;
+    private final int mainCapacity;
+    private final long maxAgeNanos;
+    private final LinkedHashMap<String, Entry> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, Entry> main = new LinkedHashMap<>(16, 0.75f, true);
+    private final FrequencySketch sketch;
+
+    // the loads and invalidations are ordered by a sequence. A load started before the last invalidation of its
+    // key, or before the oldest invalidation that is no longer tracked per key, is discarded
+    private final Map<String, Long> invalidations = new HashMap<>();
+    private final int maxInvalidations;
+    private long sequence;
+    private long minTicket;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+
+    public EntityCache(long capacity, BDecimal maxAge) {
+        int size = (int) Math.max(capacity, 1);
+        this.windowCapacity = Math.max(size * WINDOW_PERCENTAGE / 100, 1);
+        this.mainCapacity = Math.max(size - windowCapacity, 1);
+        this.maxAgeNanos = maxAge.decimalValue().multiply(BigDecimal.valueOf(1_000_000_000L)).longValue();
+        this.sketch = new FrequencySketch(size);
+        this.maxInvalidations = size;
+    }
+
+    /**
+     * Returns the cached value of the given key and projection, or {@code null} if it is not cached.
+     *
+     * @param key        the entity key
+     * @param projection the projection the value was retrieved with
+     * @return the cached (read-only) value or {@code null}
+     */
+    public synchronized Object get(BString key, BString projection) {
+        String entityKey = key.getValue();
+        sketch.increment(entityKey);
+
+        Entry entry = window.get(entityKey);
+        if (entry == null) {
+            entry = main.get(entityKey);
+        }
+
+        if (entry != null && isExpired(entry, System.nanoTime())) {
+            remove(entityKey);
+            expirations++;
+            entry = null;
+        }
+
+        Object value = entry == null ? null : entry.projections.get(projection.getValue());
+        if (value == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return value;
+    }
+
+    /**
+     * Returns a ticket to be passed to {@link #put(BString, BString, Object, long)} after the value is loaded. An
+     * invalidation of the same key (or of all the keys) that happens in between the two calls discards the loaded
+     * value, while the invalidations of the other keys do not.
+     *
+     * @return the load ticket
+     */
+    public synchronized long startLoad() {
+        return sequence;
+    }
+
+    public synchronized void put(BString key, BString projection, Object value, long ticket) {
+        String entityKey = key.getValue();
+        Long invalidatedAt = invalidations.get(entityKey);
+        if (ticket < minTicket || (invalidatedAt != null && invalidatedAt > ticket)) {
+            return;
+        }
+
+        Entry entry = window.get(entityKey);
+        if (entry == null) {
+            entry = main.get(entityKey);
+        }
+
+        if (entry != null) {
+            entry.projections.put(projection.getValue(), value);
+            return;
+        }
+
+        entry = new Entry(System.nanoTime());
+        entry.projections.put(projection.getValue(), value);
+        window.put(entityKey, entry);
+        if (window.size() > windowCapacity) {
+            Iterator<Map.Entry<String, Entry>> iterator = window.entrySet().iterator();
+            Map.Entry<String, Entry> candidate = iterator.next();
+            iterator.remove();
+            admit(candidate.getKey(), candidate.getValue());
+        }
+    }
+
+    public synchronized void invalidate(BString key) {
+        sequence++;
+        if (invalidations.size() >= maxInvalidations) {
+            // stop tracking the invalidations per key, and discard every load started before this one instead
+            invalidations.clear();
+            minTicket = sequence;
+        } else {
+            invalidations.put(key.getValue(), sequence);
+        }
+        remove(key.getValue());
+    }
+
+    public synchronized void invalidateAll() {
+        sequence++;
+        invalidations.clear();
+        minTicket = sequence;
+        window.clear();
+        main.clear();
+    }
+
+    public synchronized BMap<BString, Object> getStats() {
+        long requests = hits + misses;
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("hitRate", requests == 0 ? 0.0 : (double) hits / requests);
+        stats.put("evictions", evictions);
+        stats.put("expirations", expirations);
+        stats.put("size", (long) (window.size() + main.size()));
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), CACHE_STATS, stats);
+    }
+
+    private void admit(String candidateKey, Entry candidate) {
+        if (main.size() < mainCapacity) {
+            main.put(candidateKey, candidate);
+            return;
+        }
+
+        Iterator<Map.Entry<String, Entry>> iterator = main.entrySet().iterator();
+        Map.Entry<String, Entry> victim = iterator.next();
+        if (sketch.frequency(candidateKey) > sketch.frequency(victim.getKey())) {
+            iterator.remove();
+            main.put(candidateKey, candidate);
+        }
+        evictions++;
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        // the maximum age is validated by the client to be either positive or -1 (never expire)
+        return maxAgeNanos > 0 && now - entry.createdAt > maxAgeNanos;
+    }
+
+    private void remove(String key) {
+        if (window.remove(key) == null) {
+            main.remove(key);
+        }
+    }
+
+    private static class Entry {
+        private final Map<String, Object> projections = new HashMap<>();
+        private final long createdAt;
+
+        Entry(long createdAt) {
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.persist.cache;
+
+/**
+ * A count-min sketch with 4-bit saturating counters, used to estimate the access frequency of the cache keys.
+ * The counters are periodically halved so that the estimates favour recent accesses.
+ *
+ * @since 1.0.0
+ */
+class FrequencySketch {
+
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 15;
+    private static final int[] SEEDS = {0x97cb3127, 0xb7b6a4a5, 0x7b2f5d4b, 0x5c9f1a3d};
+
+    private final byte[][] table;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int capacity) {
+        int width = Integer.highestOneBit(Math.max(capacity, 8) * 2);
+        this.table = new byte[DEPTH][width];
+        this.mask = width - 1;
+        this.sampleSize = Math.max(capacity, 8) * 10;
+    }
+
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int i = 0; i < DEPTH; i++) {
+            int index = indexOf(hash, i);
+            if (table[i][index] < MAX_COUNT) {
+                table[i][index]++;
+                added = true;
+            }
+        }
+
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < DEPTH; i++) {
+            frequency = Math.min(frequency, table[i][indexOf(hash, i)]);
+        }
+        return frequency;
+    }
+
+    private void reset() {
+        for (byte[] row : table) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = (byte) (row[i] >>> 1);
+            }
+        }
+        additions = additions >>> 1;
+    }
+
+    private int indexOf(int hash, int row) {
+        int h = (hash ^ SEEDS[row]) * 0x9e3779b9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static int spread(int hash) {
+        int h = hash * 0x45d9f3b;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.persist.datastore;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A concurrent table of read-only records, keyed by the entity key. The table is backed by a
+ * {@link ConcurrentHashMap}, hence the writes to keys of different bins proceed in parallel while the writes of a
+ * key are atomic. The records are replaced rather than mutated, hence the readers never observe a partial write.
+ *
+ * @since 1.0.0
+ */
+public class InMemoryTable {
+
+    private final ConcurrentHashMap<String, Object> records = new ConcurrentHashMap<>();
+
+    public Object get(BString key) {
+        return records.get(key.getValue());
+    }
+
+    /**
+     * Inserts the record of the given key, unless a record of the key already exists.
+     *
+     * @param key    the entity key
+     * @param value  the read-only record
+     * @return {@code true} if the record was inserted
+     */
+    public boolean insert(BString key, Object value) {
+        return records.putIfAbsent(key.getValue(), value) == null;
+    }
+
+    public void put(BString key, Object value) {
+        records.put(key.getValue(), value);
+    }
+
+    /**
+     * Replaces the record of the given key, only if it is still the given record. This is used to update a record
+     * atomically, by retrying the update on the latest record until the replacement succeeds.
+     *
+     * @param key      the entity key
+     * @param expected the record the update was derived from
+     * @param value    the updated read-only record
+     * @return {@code true} if the record was replaced
+     */
+    public boolean replace(BString key, Object expected, Object value) {
+        boolean[] replaced = new boolean[1];
+        records.computeIfPresent(key.getValue(), (k, current) -> {
+            if (current != expected) {
+                return current;
+            }
+            replaced[0] = true;
+            return value;
+        });
+        return replaced[0];
+    }
+
+    public Object remove(BString key) {
+        return records.remove(key.getValue());
+    }
+
+    public BArray values() {
+        return ValueCreator.createArrayValue(records.values().toArray(),
+                TypeCreator.createArrayType(PredefinedTypes.TYPE_ANYDATA));
+    }
+
+    public long size() {
+        return records.size();
+    }
+}
@@ -37,17 +37,24 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
 import io.ballerina.stdlib.persist.Constants;
 import io.ballerina.stdlib.persist.ModuleUtils;
+import io.ballerina.stdlib.persist.metrics.PersistMetrics;
 
 import java.util.Map;
 
 import static io.ballerina.stdlib.persist.Constants.ERROR;
 import static io.ballerina.stdlib.persist.Constants.KEY_FIELDS;
+import static io.ballerina.stdlib.persist.Constants.READ_ALL_OPERATION;
+import static io.ballerina.stdlib.persist.Constants.READ_BY_KEY_OPERATION;
+import static io.ballerina.stdlib.persist.Constants.READ_BY_KEYS_OPERATION;
 import static io.ballerina.stdlib.persist.Utils.getEntity;
 import static io.ballerina.stdlib.persist.Utils.getKey;
+import static io.ballerina.stdlib.persist.Utils.getKeys;
 import static io.ballerina.stdlib.persist.Utils.getMetadata;
+import static io.ballerina.stdlib.persist.Utils.getNillableRecordArray;
 import static io.ballerina.stdlib.persist.Utils.getPersistClient;
 import static io.ballerina.stdlib.persist.Utils.getRecordTypeWithKeyFields;
 import static io.ballerina.stdlib.persist.Utils.getTransactionContextProperties;
+import static io.ballerina.stdlib.persist.Utils.recordOperation;
 
 /**
  * This class provides the MySQL query processing implementations for persistence.
@@ -77,12 +84,14 @@ public class MySQLProcessor {
         BArray includes = metadata[1];
         BArray typeDescriptions = metadata[2];
 
+        long startTime = PersistMetrics.startTimer();
         Future balFuture = env.markAsync();
         env.getRuntime().invokeMethodAsyncSequentially(
                 persistClient, Constants.RUN_READ_QUERY_METHOD,
                 null, null, new Callback() {
                     @Override
                     public void notifySuccess(Object o) {
+                        recordOperation(persistClient, entity, READ_ALL_OPERATION, startTime, o);
                         BStream sqlStream = (BStream) o;
                         BObject persistStream = ValueCreator.createObjectValue(
                                 ModuleUtils.getModule(), Constants.PERSIST_SQL_STREAM, sqlStream, targetType,
@@ -99,6 +108,7 @@ public class MySQLProcessor {
 
                     @Override
                     public void notifyFailure(BError bError) {
+                        recordOperation(persistClient, entity, READ_ALL_OPERATION, startTime, bError);
                         balFuture.complete(bError);
                     }
                 }, trxContextProperties, streamTypeWithIdFields,
@@ -130,17 +140,20 @@ public class MySQLProcessor {
 
         Object key = getKey(env, path);
 
+        long startTime = PersistMetrics.startTimer();
         Future balFuture = env.markAsync();
         env.getRuntime().invokeMethodAsyncSequentially(
-                getPersistClient(client, entity), Constants.RUN_READ_BY_KEY_QUERY_METHOD,
+                persistClient, Constants.RUN_READ_BY_KEY_QUERY_METHOD,
                 null, null, new Callback() {
                     @Override
                     public void notifySuccess(Object o) {
+                        recordOperation(persistClient, entity, READ_BY_KEY_OPERATION, startTime, o);
                         balFuture.complete(o);
                     }
 
                     @Override
                     public void notifyFailure(BError bError) {
+                        recordOperation(persistClient, entity, READ_BY_KEY_OPERATION, startTime, bError);
                         balFuture.complete(bError);
                     }
                 },  trxContextProperties, unionType,
@@ -150,4 +163,52 @@ public class MySQLProcessor {
 
         return null;
     }
+
+    public static Object queryMany(Environment env, BObject client, BArray keys, BTypedesc targetType) {
+        BString entity = getEntity(env);
+        BObject persistClient = getPersistClient(client, entity);
+        BArray keyFields = (BArray) persistClient.get(KEY_FIELDS);
+        RecordType recordType = (RecordType) targetType.getDescribingType();
+
+        RecordType recordTypeWithIdFields = getRecordTypeWithKeyFields(keyFields, recordType);
+        BTypedesc targetTypeWithIdFields = ValueCreator.createTypedescValue(recordTypeWithIdFields);
+        ErrorType persistErrorType = TypeCreator.createErrorType(ERROR, ModuleUtils.getModule());
+        Type unionType = TypeCreator.createUnionType(TypeCreator.createArrayType(
+                TypeCreator.createUnionType(recordTypeWithIdFields, PredefinedTypes.TYPE_NULL)), persistErrorType);
+
+        BArray[] metadata = getMetadata(recordType);
+        BArray fields = metadata[0];
+        BArray includes = metadata[1];
+        BArray typeDescriptions = metadata[2];
+
+        BArray keyValues = getKeys(keyFields, keys);
+        Map<String, Object> trxContextProperties = getTransactionContextProperties();
+
+        long startTime = PersistMetrics.startTimer();
+        Future balFuture = env.markAsync();
+        env.getRuntime().invokeMethodAsyncSequentially(
+                persistClient, Constants.RUN_READ_BY_KEYS_QUERY_METHOD,
+                null, null, new Callback() {
+                    @Override
+                    public void notifySuccess(Object o) {
+                        recordOperation(persistClient, entity, READ_BY_KEYS_OPERATION, startTime, o);
+                        if (o instanceof BError) {
+                            balFuture.complete(o);
+                        } else {
+                            balFuture.complete(getNillableRecordArray(recordType, (BArray) o));
+                        }
+                    }
+
+                    @Override
+                    public void notifyFailure(BError bError) {
+                        recordOperation(persistClient, entity, READ_BY_KEYS_OPERATION, startTime, bError);
+                        balFuture.complete(bError);
+                    }
+                }, trxContextProperties, unionType,
+                targetType, true, targetTypeWithIdFields, true, keyValues, true, fields, true, includes, true,
+                typeDescriptions, true
+        );
+
+        return null;
+    }
 }
@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.persist.datastore;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Future;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.async.Callback;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.persist.Constants;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gathers the concurrent single-record inserts of an SQL client and executes them as a single batch, once the batch
+ * is full or once the first insert of the batch has waited for the maximum delay. Each insert completes with the
+ * result of its own record in the batch.
+ *
+ * @since 1.0.0
+ */
+public class WriteCoalescer {
+
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "persist-write-coalescer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final int maxRows;
+    private final long maxDelayNanos;
+    private List<PendingInsert> pending = new ArrayList<>();
+
+    public WriteCoalescer(long maxRows, BDecimal maxDelay) {
+        this.maxRows = (int) Math.max(maxRows, 1);
+        this.maxDelayNanos = maxDelay.decimalValue().multiply(BigDecimal.valueOf(1_000_000_000L)).longValue();
+    }
+
+    /**
+     * Adds a record to the current batch. The calling strand is suspended until the batch is executed.
+     *
+     * @param env           the environment of the calling strand
+     * @param persistClient the SQL client, which executes the batch
+     * @param value         the record to be inserted
+     * @return {@code null}, as the result is completed asynchronously
+     */
+    public Object insert(Environment env, BObject persistClient, BMap<BString, Object> value) {
+        Runtime runtime = env.getRuntime();
+        Future balFuture = env.markAsync();
+        List<PendingInsert> batch = null;
+        synchronized (this) {
+            pending.add(new PendingInsert(value, balFuture));
+            if (pending.size() >= maxRows) {
+                batch = pending;
+                pending = new ArrayList<>();
+            } else if (pending.size() == 1) {
+                List<PendingInsert> scheduled = pending;
+                SCHEDULER.schedule(() -> flush(runtime, persistClient, scheduled), maxDelayNanos,
+                        TimeUnit.NANOSECONDS);
+            }
+        }
+
+        if (batch != null) {
+            execute(runtime, persistClient, batch);
+        }
+        return null;
+    }
+
+    private void flush(Runtime runtime, BObject persistClient, List<PendingInsert> scheduled) {
+        synchronized (this) {
+            // the batch was already executed as it became full
+            if (pending != scheduled) {
+                return;
+            }
+            pending = new ArrayList<>();
+        }
+        execute(runtime, persistClient, scheduled);
+    }
+
+    private static void execute(Runtime runtime, BObject persistClient, List<PendingInsert> batch) {
+        BArray values = ValueCreator.createArrayValue(
+                TypeCreator.createArrayType(TypeCreator.createMapType(PredefinedTypes.TYPE_ANYDATA)));
+        for (PendingInsert pendingInsert : batch) {
+            values.append(pendingInsert.value);
+        }
+
+        runtime.invokeMethodAsyncConcurrently(
+                persistClient, Constants.RUN_BATCH_INSERT_QUERY_WITH_RESULTS_METHOD,
+                null, null, new Callback() {
+                    @Override
+                    public void notifySuccess(Object o) {
+                        if (o instanceof BArray) {
+                            BArray results = (BArray) o;
+                            for (int i = 0; i < batch.size(); i++) {
+                                batch.get(i).balFuture.complete(results.get(i));
+                            }
+                        } else {
+                            batch.forEach(pendingInsert -> pendingInsert.balFuture.complete(o));
+                        }
+                    }
+
+                    @Override
+                    public void notifyFailure(BError bError) {
+                        batch.forEach(pendingInsert -> pendingInsert.balFuture.complete(bError));
+                    }
+                }, null, PredefinedTypes.TYPE_ANY, values, true
+        );
+    }
+
+    private static class PendingInsert {
+        private final BMap<BString, Object> value;
+        private final Future balFuture;
+
+        PendingInsert(BMap<BString, Object> value, Future balFuture) {
+            this.value = value;
+            this.balFuture = balFuture;
+        }
+    }
+}
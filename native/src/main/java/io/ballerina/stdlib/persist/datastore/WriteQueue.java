@@ -0,0 +1,204 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.persist.datastore;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Future;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.persist.ModuleUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.stdlib.persist.Constants.ASYNC_WRITE_STATS;
+
+/**
+ * A bounded queue of the asynchronous writes of an SQL client, drained by worker strands. The strands are never
+ * blocked: a write added to a full queue and a worker waiting on an empty queue suspend their strands, which are
+ * resumed once there is space in the queue or a write to be drained.
+ *
+ * @since 1.0.0
+ */
+public class WriteQueue {
+
+    private final int capacity;
+    private final ArrayDeque<Object> writes = new ArrayDeque<>();
+    private final ArrayDeque<PendingPut> waitingPuts = new ArrayDeque<>();
+    private final ArrayDeque<PendingTake> waitingTakes = new ArrayDeque<>();
+    private final List<Future> waitingFlushes = new ArrayList<>();
+
+    private boolean closed;
+    private long inFlight;
+    private long written;
+    private long failed;
+
+    public WriteQueue(long capacity) {
+        this.capacity = (int) Math.max(capacity, 1);
+    }
+
+    /**
+     * Adds a write to the queue. If the queue is full, the calling strand is suspended until there is space.
+     *
+     * @param env   the environment of the calling strand
+     * @param write the read-only write
+     * @return {@code true} if the write was queued or {@code false} if the queue is closed, unless the strand is
+     * suspended, in which case the result is completed asynchronously
+     */
+    public synchronized Object put(Environment env, Object write) {
+        if (closed) {
+            return false;
+        }
+        if (writes.size() < capacity && waitingPuts.isEmpty()) {
+            writes.add(write);
+            dispatch();
+            return true;
+        }
+        waitingPuts.add(new PendingPut(write, env.markAsync()));
+        return null;
+    }
+
+    /**
+     * Takes the next writes to be drained. If the queue is empty, the calling strand is suspended until a write is
+     * queued. The taken writes should be reported as done once they are written.
+     *
+     * @param env       the environment of the calling strand
+     * @param maxWrites the maximum number of writes to be taken
+     * @return the writes or {@code null} if the queue is closed and empty
+     */
+    public synchronized Object take(Environment env, long maxWrites) {
+        if (!writes.isEmpty()) {
+            return takeWrites(maxWrites);
+        }
+        if (closed) {
+            return null;
+        }
+        waitingTakes.add(new PendingTake(maxWrites, env.markAsync()));
+        return null;
+    }
+
+    public synchronized void done(long count, long failedCount) {
+        inFlight -= count;
+        written += count - failedCount;
+        failed += failedCount;
+        completeFlushes();
+    }
+
+    /**
+     * Suspends the calling strand until all the queued writes are written.
+     *
+     * @param env the environment of the calling strand
+     * @return {@code null}, as the result is completed asynchronously if there are writes to be written
+     */
+    public synchronized Object flush(Environment env) {
+        if (!isDrained()) {
+            waitingFlushes.add(env.markAsync());
+        }
+        return null;
+    }
+
+    /**
+     * Closes the queue. The writes already queued are still drained, while the new writes, including the ones
+     * waiting for space in the queue, are rejected.
+     */
+    public synchronized void close() {
+        closed = true;
+        waitingPuts.forEach(pendingPut -> pendingPut.balFuture.complete(false));
+        waitingPuts.clear();
+        // the workers only wait on an empty queue, hence they can finish
+        waitingTakes.forEach(pendingTake -> pendingTake.balFuture.complete(null));
+        waitingTakes.clear();
+        completeFlushes();
+    }
+
+    public synchronized long size() {
+        return writes.size();
+    }
+
+    public synchronized BMap<BString, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("depth", (long) writes.size());
+        stats.put("capacity", (long) capacity);
+        stats.put("inFlight", inFlight);
+        stats.put("written", written);
+        stats.put("failed", failed);
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), ASYNC_WRITE_STATS, stats);
+    }
+
+    private void dispatch() {
+        while (!waitingTakes.isEmpty() && !writes.isEmpty()) {
+            PendingTake pendingTake = waitingTakes.poll();
+            pendingTake.balFuture.complete(takeWrites(pendingTake.maxWrites));
+        }
+    }
+
+    private BArray takeWrites(long maxWrites) {
+        BArray taken = ValueCreator.createArrayValue(TypeCreator.createArrayType(PredefinedTypes.TYPE_ANYDATA));
+        while (taken.size() < maxWrites && !writes.isEmpty()) {
+            taken.append(writes.poll());
+        }
+        inFlight += taken.size();
+
+        // the writes waiting for space are queued in the order they were added
+        while (writes.size() < capacity && !waitingPuts.isEmpty()) {
+            PendingPut pendingPut = waitingPuts.poll();
+            writes.add(pendingPut.write);
+            pendingPut.balFuture.complete(true);
+        }
+        return taken;
+    }
+
+    private boolean isDrained() {
+        return writes.isEmpty() && waitingPuts.isEmpty() && inFlight == 0;
+    }
+
+    private void completeFlushes() {
+        if (isDrained()) {
+            waitingFlushes.forEach(balFuture -> balFuture.complete(null));
+            waitingFlushes.clear();
+        }
+    }
+
+    private static class PendingPut {
+        private final Object write;
+        private final Future balFuture;
+
+        PendingPut(Object write, Future balFuture) {
+            this.write = write;
+            this.balFuture = balFuture;
+        }
+    }
+
+    private static class PendingTake {
+        private final long maxWrites;
+        private final Future balFuture;
+
+        PendingTake(long maxWrites, Future balFuture) {
+            this.maxWrites = maxWrites;
+            this.balFuture = balFuture;
+        }
+    }
+}
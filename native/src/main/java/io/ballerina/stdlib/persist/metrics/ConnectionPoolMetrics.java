@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.persist.metrics;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.persist.ModuleUtils;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Map;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+import static io.ballerina.stdlib.persist.Constants.CONNECTION_POOL_STATS;
+import static io.ballerina.stdlib.persist.Constants.SQL_DATABASE_CLIENT;
+import static io.ballerina.stdlib.persist.Constants.SQL_HIKARI_DATA_SOURCE_FIELD;
+
+/**
+ * Retrieves the statistics of the connection pool of an SQL client. The pool of an `sql:Client` is not exposed
+ * through its API, hence it is looked up reflectively and the statistics are read from the pool MXBean. A failure of
+ * the lookup, such as due to a change of the internals of the sql module, is returned to be reported by the caller.
+ *
+ * @since 1.0.0
+ */
+public final class ConnectionPoolMetrics {
+
+    private ConnectionPoolMetrics() {
+    }
+
+    /**
+     * Returns the statistics of the connection pool of the given SQL client.
+     *
+     * @param dbClient the `sql:Client`
+     * @return the `persist:ConnectionPoolStats` record, {@code null} if the client does not use a pool, or an error if
+     * the pool cannot be accessed
+     */
+    public static Object getConnectionPoolStats(BObject dbClient) {
+        Object dataSource = dbClient.getNativeData(SQL_DATABASE_CLIENT);
+        if (dataSource == null) {
+            return null;
+        }
+
+        try {
+            Field field = dataSource.getClass().getDeclaredField(SQL_HIKARI_DATA_SOURCE_FIELD);
+            field.setAccessible(true);
+            Object hikariDataSource = field.get(dataSource);
+            if (hikariDataSource == null) {
+                // e.g. the XA data sources are not pooled by the client
+                return null;
+            }
+
+            Object pool = hikariDataSource.getClass().getMethod("getHikariPoolMXBean").invoke(hikariDataSource);
+            if (pool == null) {
+                return null;
+            }
+
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("active", getCount(pool, "getActiveConnections"));
+            stats.put("idle", getCount(pool, "getIdleConnections"));
+            stats.put("total", getCount(pool, "getTotalConnections"));
+            stats.put("waiting", getCount(pool, "getThreadsAwaitingConnection"));
+            return ValueCreator.createRecordValue(ModuleUtils.getModule(), CONNECTION_POOL_STATS, stats);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return ErrorCreator.createError(fromString("The connection pool of the SQL client cannot be accessed: "
+                    + e));
+        }
+    }
+
+    private static long getCount(Object pool, String method) throws ReflectiveOperationException {
+        return ((Number) pool.getClass().getMethod(method).invoke(pool)).longValue();
+    }
+}
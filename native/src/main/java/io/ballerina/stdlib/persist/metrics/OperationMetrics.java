@@ -0,0 +1,186 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.persist.metrics;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import io.ballerina.runtime.observability.metrics.Tag;
+import io.ballerina.stdlib.persist.ModuleUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+import static io.ballerina.stdlib.persist.Constants.OPERATION_METRICS;
+
+/**
+ * The counters and the latency histogram of an operation performed on an entity. The latencies are recorded in
+ * exponential (power of two) buckets, starting from 1 microsecond, hence the percentiles are approximations. When
+ * the operation is observed, the latencies are published as a gauge whose statistics (mean, max and percentiles) are
+ * computed by the metrics registry over sliding time windows.
+ *
+ * @since 1.0.0
+ */
+class OperationMetrics {
+
+    private static final int MIN_BUCKET_SHIFT = 10;
+    private static final int BUCKET_COUNT = 28;
+    private static final BigDecimal NANOS_PER_SECOND = BigDecimal.valueOf(1_000_000_000L);
+    private static final double[] OBSERVED_PERCENTILES = {0.50, 0.95, 0.99};
+    private static final StatisticConfig[] OBSERVED_LATENCY_STATISTICS = {
+            getStatisticConfig(Duration.ofSeconds(10)),
+            getStatisticConfig(Duration.ofMinutes(1)),
+            getStatisticConfig(Duration.ofMinutes(5))
+    };
+
+    private final String entity;
+    private final String operation;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private volatile Counter[] observedCounters;
+    private volatile Gauge observedLatency;
+
+    OperationMetrics(String entity, String operation) {
+        this.entity = entity;
+        this.operation = operation;
+    }
+
+    void record(long nanos, long rowCount, boolean failed) {
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+        buckets.incrementAndGet(getBucket(nanos));
+        if (rowCount > 0) {
+            rows.add(rowCount);
+        }
+        if (failed) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * Records the operation in the Ballerina observability metrics registry, so that it is published through the
+     * configured metrics reporter (e.g. Prometheus).
+     */
+    void observe(long nanos, long rowCount, boolean failed) {
+        Counter[] counters = observedCounters;
+        if (counters == null) {
+            counters = registerObservedMetrics();
+        }
+        counters[0].increment(1);
+        counters[1].increment(nanos);
+        observedLatency.setValue(nanos / 1e9);
+        if (rowCount > 0) {
+            counters[2].increment(rowCount);
+        }
+        if (failed) {
+            counters[3].increment(1);
+        }
+    }
+
+    BMap<BString, Object> toRecord() {
+        long operationCount = count.sum();
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("entity", fromString(entity));
+        metrics.put("operation", fromString(operation));
+        metrics.put("count", operationCount);
+        metrics.put("errors", errors.sum());
+        metrics.put("rows", rows.sum());
+        metrics.put("totalTime", toSeconds(totalNanos.sum()));
+        metrics.put("p50", toSeconds(getPercentile(operationCount, 0.50)));
+        metrics.put("p95", toSeconds(getPercentile(operationCount, 0.95)));
+        metrics.put("p99", toSeconds(getPercentile(operationCount, 0.99)));
+        metrics.put("maxTime", toSeconds(maxNanos.get()));
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), OPERATION_METRICS, metrics);
+    }
+
+    private synchronized Counter[] registerObservedMetrics() {
+        if (observedCounters != null) {
+            return observedCounters;
+        }
+
+        Set<Tag> tags = new HashSet<>();
+        tags.add(Tag.of("entity", entity));
+        tags.add(Tag.of("operation", operation));
+        Counter[] counters = new Counter[]{
+                registerCounter("persist_operation_requests_total", "Number of persist operations", tags),
+                registerCounter("persist_operation_time_nanoseconds_total", "Time spent on persist operations",
+                        tags),
+                registerCounter("persist_operation_rows_total", "Number of rows read or written", tags),
+                registerCounter("persist_operation_errors_total", "Number of failed persist operations", tags)
+        };
+        // the gauge is assigned before the counters, which are used to check whether the metrics are registered
+        observedLatency = DefaultMetricRegistry.getInstance().gauge(new MetricId(
+                "persist_operation_response_time_seconds", "Response time of persist operations", tags),
+                OBSERVED_LATENCY_STATISTICS);
+        observedCounters = counters;
+        return counters;
+    }
+
+    private static StatisticConfig getStatisticConfig(Duration expiry) {
+        return StatisticConfig.builder().expiry(expiry).buckets(5).percentiles(OBSERVED_PERCENTILES).build();
+    }
+
+    private static Counter registerCounter(String name, String description, Set<Tag> tags) {
+        return DefaultMetricRegistry.getInstance().counter(new MetricId(name, description, tags));
+    }
+
+    private long getPercentile(long operationCount, double percentile) {
+        if (operationCount == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(operationCount * percentile);
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulative += buckets.get(i);
+            if (cumulative >= rank) {
+                // the upper bound of the bucket, which is capped by the maximum recorded latency
+                return Math.min(1L << (i + MIN_BUCKET_SHIFT), maxNanos.get());
+            }
+        }
+        return maxNanos.get();
+    }
+
+    private static int getBucket(long nanos) {
+        int bucket = 64 - Long.numberOfLeadingZeros(nanos) - MIN_BUCKET_SHIFT;
+        return Math.min(Math.max(bucket, 0), BUCKET_COUNT - 1);
+    }
+
+    private static Object toSeconds(long nanos) {
+        return ValueCreator.createDecimalValue(BigDecimal.valueOf(nanos).divide(NANOS_PER_SECOND));
+    }
+}
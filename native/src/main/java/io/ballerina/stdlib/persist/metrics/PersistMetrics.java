@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.persist.metrics;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.stdlib.persist.ModuleUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.ballerina.stdlib.persist.Constants.OPERATION_METRICS;
+
+/**
+ * The registry of the per entity, per operation metrics of the persist clients. The metrics are recorded only if
+ * enabled through the module configurations or if the Ballerina observability metrics are enabled. Otherwise, the
+ * recording is reduced to a check of a flag.
+ *
+ * @since 1.0.0
+ */
+public final class PersistMetrics {
+
+    private static final Map<String, OperationMetrics> METRICS = new ConcurrentHashMap<>();
+    private static volatile boolean enabled;
+    private static volatile boolean observed;
+
+    private PersistMetrics() {
+    }
+
+    public static void setEnabled(boolean enable) {
+        observed = ObserveUtils.isMetricsEnabled();
+        enabled = enable || observed;
+    }
+
+    /**
+     * Returns the start time of an operation, which should be passed to {@link #record}.
+     *
+     * @return the current value of the high-resolution time source or 0 if the metrics are disabled
+     */
+    public static long startTimer() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    public static void record(BString entity, BString operation, long startTime, long rows, boolean failed) {
+        if (!enabled || startTime == 0) {
+            return;
+        }
+
+        long nanos = System.nanoTime() - startTime;
+        OperationMetrics metrics = METRICS.computeIfAbsent(entity.getValue() + "|" + operation.getValue(),
+                key -> new OperationMetrics(entity.getValue(), operation.getValue()));
+        metrics.record(nanos, rows, failed);
+        if (observed) {
+            metrics.observe(nanos, rows, failed);
+        }
+    }
+
+    public static BArray getMetrics() {
+        Type metricsType = ValueCreator.createRecordValue(ModuleUtils.getModule(), OPERATION_METRICS).getType();
+        BArray metricsArray = ValueCreator.createArrayValue(TypeCreator.createArrayType(metricsType));
+        for (OperationMetrics metrics : METRICS.values()) {
+            metricsArray.append(metrics.toRecord());
+        }
+        return metricsArray;
+    }
+
+    public static void reset() {
+        METRICS.clear();
+    }
+}